@@ -104,6 +104,7 @@ public void argumentValues(final OptionResult option) {
 
     @Override
     public void initialize(final IEnvironment environment) {
+        TransformationTimings.initialize(environment);
     }
 
     @Override
@@ -133,6 +134,7 @@ public void offerResource(final URL resource, final String name) {
 
     static class AWTransformer implements ITransformer<ClassNode> {
         private final AccessWidener widener;
+        private final TransformationTimings timings = TransformationTimings.of(AccessWidenerTransformationService.NAME);
 
         AWTransformer(final AccessWidener widener) {
             this.widener = widener;
@@ -141,9 +143,11 @@ static class AWTransformer implements ITransformer<ClassNode> {
         @Override
         public @NonNull ClassNode transform(final ClassNode input, final ITransformerVotingContext context) {
             AccessWidenerTransformationService.LOGGER.debug("Transforming {}", context.getClassName());
+            final long start = TransformationTimings.start();
             final ClassNode output = new ClassNode(Opcodes.ASM9);
             final ClassVisitor visitor = AccessWidenerVisitor.createClassVisitor(Opcodes.ASM9, output, this.widener);
             input.accept(visitor);
+            this.timings.stop(start);
             return output;
         }
 
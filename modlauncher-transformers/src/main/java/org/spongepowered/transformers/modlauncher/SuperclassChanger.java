@@ -49,7 +49,6 @@
 
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -110,6 +109,7 @@ public void argumentValues(final OptionResult option) {
 
     @Override
     public void initialize(final IEnvironment environment) {
+        TransformationTimings.initialize(environment);
     }
 
     @Override
@@ -150,6 +150,7 @@ public void offerResource(final URL resource, final String name) {
     static class SuperclassTransformer implements ITransformer<ClassNode> {
 
         private final ConcurrentHashMap<String, String> superclassTargets;
+        private final TransformationTimings timings = TransformationTimings.of(SuperclassChanger.NAME);
 
         public SuperclassTransformer(final ConcurrentHashMap<String, String> superclassTargets) {
             this.superclassTargets = superclassTargets;
@@ -163,32 +164,26 @@ public SuperclassTransformer(final ConcurrentHashMap<String, String> superclassT
                 SuperclassChanger.LOGGER.warn("No superclass change for {}", inputKey);
                 return input;
             }
+            final long start = TransformationTimings.start();
             final String sanitizedSuperClass = newSuperclass.replace('.', '/');
 
-            input.methods.forEach(m -> SuperclassTransformer.transformMethod(m, input.superName, sanitizedSuperClass));
+            for (final MethodNode method : input.methods) {
+                SuperclassTransformer.transformMethod(method, input.superName, sanitizedSuperClass);
+            }
             input.superName = sanitizedSuperClass;
+            this.timings.stop(start);
             return input;
         }
 
         private static void transformMethod(
             final MethodNode node, final String originalSuperclass, final String superClass
         ) {
-            for (final MethodInsnNode insn : SuperclassTransformer.findSuper(node, originalSuperclass)) {
-                insn.owner = superClass;
-            }
-        }
-
-        private static List<MethodInsnNode> findSuper(
-            final MethodNode method, final String originalSuperClass
-        ) {
-            final List<MethodInsnNode> nodes = new ArrayList<>();
-            for (final AbstractInsnNode node : method.instructions.toArray()) {
-                if (node.getOpcode() == Opcodes.INVOKESPECIAL && originalSuperClass.equals(
-                    ((MethodInsnNode) node).owner)) {
-                    nodes.add((MethodInsnNode) node);
+            // Walk the linked instruction list directly, InsnList#toArray copies it for every method
+            for (AbstractInsnNode insn = node.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+                if (insn.getOpcode() == Opcodes.INVOKESPECIAL && originalSuperclass.equals(((MethodInsnNode) insn).owner)) {
+                    ((MethodInsnNode) insn).owner = superClass;
                 }
             }
-            return nodes;
         }
 
         @Override
@@ -0,0 +1,159 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.transformers.modlauncher;
+
+import cpw.mods.modlauncher.api.IEnvironment;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in timings of the transformers in this project, enabled with the
+ * {@code sponge.transformers.timings} system property.
+ *
+ * <p>The totals of a launch are written to the logs directory when the JVM
+ * exits and reported at the start of the next launch, next to those of the
+ * launch before it, to compare cold and warm launches.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class TransformationTimings {
+
+    static final boolean ENABLED = Boolean.getBoolean("sponge.transformers.timings");
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String FILE_NAME = "transformation-timings.properties";
+    private static final String LAST = "last.";
+    private static final String PREVIOUS = "previous.";
+    private static final String CLASSES = ".classes";
+    private static final String MILLIS = ".millis";
+
+    private static final Map<String, TransformationTimings> TIMINGS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+
+    private final LongAdder classes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    static TransformationTimings of(final String transformer) {
+        return TransformationTimings.TIMINGS.computeIfAbsent(transformer, k -> new TransformationTimings());
+    }
+
+    static long start() {
+        return TransformationTimings.ENABLED ? System.nanoTime() : 0L;
+    }
+
+    static void initialize(final IEnvironment environment) {
+        if (!TransformationTimings.ENABLED || !TransformationTimings.INITIALIZED.compareAndSet(false, true)) {
+            return;
+        }
+        final Path file = environment.getProperty(IEnvironment.Keys.GAMEDIR.get()).orElse(Paths.get("."))
+            .resolve("logs")
+            .resolve(TransformationTimings.FILE_NAME);
+        TransformationTimings.reportPreviousLaunches(file);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> TransformationTimings.save(file), "Sponge Transformation Timings"));
+    }
+
+    void stop(final long start) {
+        if (TransformationTimings.ENABLED) {
+            this.classes.increment();
+            this.nanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static void reportPreviousLaunches(final Path file) {
+        final Properties properties = TransformationTimings.load(file);
+        if (properties.isEmpty()) {
+            TransformationTimings.LOGGER.info("Transformation timings are enabled, no previous launch has been recorded yet");
+            return;
+        }
+        for (final String name : new TreeSet<>(properties.stringPropertyNames())) {
+            if (!name.startsWith(TransformationTimings.LAST) || !name.endsWith(TransformationTimings.CLASSES)) {
+                continue;
+            }
+            final String transformer = name.substring(TransformationTimings.LAST.length(), name.length() - TransformationTimings.CLASSES.length());
+            final @Nullable String previousMillis = properties.getProperty(TransformationTimings.PREVIOUS + transformer + TransformationTimings.MILLIS);
+            TransformationTimings.LOGGER.info("Transformer '{}' took {} ms for {} classes on the last launch ({} ms on the launch before)",
+                transformer,
+                properties.getProperty(TransformationTimings.LAST + transformer + TransformationTimings.MILLIS),
+                properties.getProperty(name),
+                previousMillis == null ? "n/a" : previousMillis);
+        }
+    }
+
+    private static void save(final Path file) {
+        final Properties previous = TransformationTimings.load(file);
+        final Properties properties = new Properties();
+        for (final Map.Entry<String, TransformationTimings> entry : TransformationTimings.TIMINGS.entrySet()) {
+            final String transformer = entry.getKey();
+            final @Nullable String lastMillis = previous.getProperty(TransformationTimings.LAST + transformer + TransformationTimings.MILLIS);
+            if (lastMillis != null) {
+                properties.setProperty(TransformationTimings.PREVIOUS + transformer + TransformationTimings.MILLIS, lastMillis);
+            }
+            properties.setProperty(TransformationTimings.LAST + transformer + TransformationTimings.CLASSES,
+                Long.toString(entry.getValue().classes.sum()));
+            properties.setProperty(TransformationTimings.LAST + transformer + TransformationTimings.MILLIS,
+                Long.toString(TimeUnit.NANOSECONDS.toMillis(entry.getValue().nanos.sum())));
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            try (final OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Sponge transformation timings");
+            }
+        } catch (final IOException ex) {
+            // Logging may already be shut down at this point
+            System.err.println("Failed to save transformation timings to " + file + ": " + ex);
+        }
+    }
+
+    private static Properties load(final Path file) {
+        final Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (final InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (final IOException ex) {
+                TransformationTimings.LOGGER.warn("Failed to read transformation timings from {}", file, ex);
+            }
+        }
+        return properties;
+    }
+
+    private TransformationTimings() {
+    }
+}
@@ -53,4 +53,6 @@ public interface ServerboundMovePlayerPacketAccessor {
 
     @Accessor("hasRot") boolean accessor$hasRot();
 
+    @Accessor("onGround") void accessor$onGround(final boolean onGround);
+
 }
@@ -44,4 +44,6 @@ public interface ChunkMapAccessor {
 
     @Invoker("getChunks") Iterable<ChunkHolder> invoker$getChunks();
 
+    @Invoker("getVisibleChunkIfPresent") ChunkHolder invoker$getVisibleChunkIfPresent(long chunkPos);
+
 }
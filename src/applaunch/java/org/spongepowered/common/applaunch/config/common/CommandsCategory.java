@@ -50,6 +50,16 @@ public final class CommandsCategory {
              + "(as it is by default).")
     public boolean enforcePermissionChecksOnNonSpongeCommands = false;
 
+    @Setting("command-tree-cache-size")
+    @Comment("The number of distinct command trees to keep for sending to players. Players\n"
+             + "that can use exactly the same set of commands are sent the same prebuilt tree\n"
+             + "instead of having it rebuilt for each of them. Set to 0 to disable the cache.")
+    public int commandTreeCacheSize = 64;
+
+    @Setting("completion")
+    @Comment("Controls how tab completion requests from players are handled.")
+    public final CommandsCompletionCategory completion = new CommandsCompletionCategory();
+
     @Setting("commands-hidden")
     @Comment("Defines how Sponge should act when a user tries to access a command they do not have\n"
                      + "permission for")
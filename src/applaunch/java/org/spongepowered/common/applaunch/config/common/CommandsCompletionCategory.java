@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class CommandsCompletionCategory {
+
+    @Setting("async")
+    @Comment("If 'true', tab completions for plugin commands are computed on a separate thread\n"
+            + "instead of the server thread. Vanilla commands are always completed on the server\n"
+            + "thread. Only enable this if your plugins' completers do not access worlds or\n"
+            + "entities, or list those plugins under 'main-thread-plugins'.")
+    public boolean async = false;
+
+    @Setting("threads")
+    @Comment("The number of threads used for asynchronous tab completion.")
+    public int threads = 2;
+
+    @Setting("max-in-flight-per-player")
+    @Comment("The number of tab completion requests a single player may have running at\n"
+            + "once. Further requests wait, and only the most recent waiting request is kept.\n"
+            + "Values below 1 are treated as 1.")
+    public int maxInFlightPerPlayer = 1;
+
+    @Setting("main-thread-plugins")
+    @Comment("Plugin ids whose command completers need game state and must be completed\n"
+            + "on the server thread even when asynchronous completion is enabled.")
+    public final List<String> mainThreadPlugins = new ArrayList<>();
+}
@@ -47,6 +47,11 @@ public final class ModuleCategory {
     @Setting("entity-collision")
     public boolean entityCollision = true;
 
+    @Setting("entity-collision-grid")
+    @Comment("Allows living entities to look up the entities they push in a spatial\n"
+             + "grid. The grid is enabled per world with 'entity-collision.spatial-grid'.")
+    public boolean entityCollisionGrid = false;
+
     @Setting
     @Comment("Controls whether any exploit patches are applied.\n"
              + "If there are issues with any specific exploits, please\n"
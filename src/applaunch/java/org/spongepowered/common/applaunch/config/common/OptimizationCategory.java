@@ -76,6 +76,24 @@ public final class OptimizationCategory {
            + "for more details.")
     public boolean optimizeHoppers = false;
 
+    @Setting("event-driven-hoppers")
+    @Comment("If 'true', hoppers that fail to move any items go to sleep instead of\n"
+           + "polling the containers around them every tick. A sleeping hopper is\n"
+           + "woken when its own inventory changes, when the container it pulls from\n"
+           + "or pushes into is changed, when a neighboring block changes, or when an\n"
+           + "item entity or container minecart moves into its pickup area. Hoppers\n"
+           + "next to containers that are not block entities keep polling as usual.\n"
+           + "Modded containers that change their contents without marking themselves\n"
+           + "as changed will not wake hoppers, which is why this is 'false' by default.")
+    public boolean eventDrivenHoppers = false;
+
+    @Setting("block-entity-tick-budget")
+    @Comment("If 'true', block entities of a world take turns ticking once they take\n"
+           + "longer than the 'tick-budget' set in the 'block-entity-activation' section\n"
+           + "of the world configuration. This is independent of the block entity\n"
+           + "activation module, which does not need to be enabled for the budget.")
+    public boolean blockEntityTickBudget = false;
+
     @Setting("optimize-block-entity-ticking")
     @Comment("Based on Paper's TileEntity Ticking optimization\n"
         + "setting this to 'true' prevents unnecessary ticking in Chests and EnderChests\n"
@@ -124,6 +142,30 @@ public final class OptimizationCategory {
             + "should usually remain enabled.")
     public boolean enableLazyDFU = true;
 
+    @Setting("bulk-volume-application")
+    @Comment("If 'true', pasting an archetype volume (such as a schematic) into\n"
+            + "a world writes the blocks directly into the affected chunk sections,\n"
+            + "recalculating heightmaps and lighting once per chunk and sending a\n"
+            + "single chunk update per affected chunk. One block change event is\n"
+            + "thrown per affected chunk rather than per block. Because blocks are\n"
+            + "written directly, neighbor updates and block physics are not\n"
+            + "performed for the pasted blocks.")
+    public boolean bulkVolumeApplication = false;
+
+    @Setting("coalesce-scoreboard-packets")
+    @Comment("If 'true', scoreboard changes made during a tick are collected\n"
+            + "and sent to viewers once at the end of the tick. Score and display\n"
+            + "updates that are overwritten within the same tick, or that would not\n"
+            + "change what players were last sent, are not sent at all. This greatly\n"
+            + "reduces traffic from plugins that rebuild sidebars every tick, but\n"
+            + "delays scoreboard updates until the end of the tick. The number of\n"
+            + "packets saved is shown by '/sponge metrics'.")
+    public boolean coalesceScoreboardPackets = false;
+
+    @Setting("container-tracking")
+    @Comment("Controls how open containers detect slot changes to send to players.")
+    public final ContainerTrackingCategory containerTracking = new ContainerTrackingCategory();
+
     public OptimizationCategory() {
         // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
         // Because of how early this constructor gets called, we can't use SpongeImplHooks or even Game
@@ -51,6 +51,45 @@ public final class WorldCategory {
                                                                  + "Finally, if set to 0 or less, the default interval will be used.")
     public int gameProfileQueryTaskInterval = 4;
 
+    @Setting(value = "volume-application-tick-budget")
+    @Comment("The default amount of milliseconds per tick that time-sliced volume stream \n"
+                                                     + "applications (such as large world edits) may spend before resuming on \n"
+                                                     + "the next tick. Values below 1 are treated as 1. (Default: 10)")
+    public long volumeApplicationTickBudget = 10;
+
+    @Setting(value = "time-sliced-archetype-placement")
+    @Comment("If 'true', the blocks of archetype volumes (such as schematics) applied to a world \n"
+                                                     + "are placed over as many ticks as needed, spending at most the \n"
+                                                     + "'volume-application-tick-budget' per tick. Biomes, block entities and entities \n"
+                                                     + "are applied once all blocks are placed. (Default: false)")
+    public boolean timeSlicedArchetypePlacement = false;
+
+    @Setting(value = "async-volume-stream-loading")
+    @Comment("If 'true', block volume streams of worlds consumed off of the server thread (such as \n"
+                                                     + "asynchronous world edits) request their chunks in the background and yield the \n"
+                                                     + "blocks of each chunk as soon as it has loaded, instead of loading every chunk \n"
+                                                     + "one by one. Plugins may also request this per stream. (Default: false)")
+    public boolean asyncVolumeStreamLoading = false;
+
+    @Setting(value = "parallel-volume-stream-snapshots")
+    @Comment("If 'true', block volume streams of worlds created off of the server thread copy the \n"
+                                                     + "requested area on the server thread first, and are then processed in parallel per \n"
+                                                     + "chunk section, in no particular order. Takes precedence over \n"
+                                                     + "'async-volume-stream-loading', unless a plugin requests asynchronous loading for \n"
+                                                     + "a stream. (Default: false)")
+    public boolean parallelVolumeStreamSnapshots = false;
+
+    @Setting(value = "link-region-files-on-copy")
+    @Comment("If 'true', copying a world hard links its region files into the copy instead of \n"
+                                                     + "copying them, making copies of large, unmodified worlds nearly instant. A linked \n"
+                                                     + "region file is copied the first time either world saves to it. Only used on file \n"
+                                                     + "systems that support hard links and report link counts. (Default: false)")
+    public boolean linkRegionFilesOnCopy = false;
+
+    @Setting(value = "instance-pools")
+    @Comment("Pools of pre-loaded copies of template worlds, for example minigame arenas.")
+    public final WorldPoolCategory instancePools = new WorldPoolCategory();
+
     @Setting(value = "invalid-lookup-uuids")
     @Comment("The list of uuid's that should never perform a lookup against Mojang's session server. \n"
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
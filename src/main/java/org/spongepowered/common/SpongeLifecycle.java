@@ -215,6 +215,7 @@ public void callStoppingEngineEvent(final Engine engine) {
             if (profileManager != null) {
                 profileManager.close();
             }
+            ((SpongeServer) engine).commandManager().completionService().close();
         }
     }
 
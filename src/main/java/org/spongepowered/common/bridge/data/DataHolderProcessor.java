@@ -52,6 +52,7 @@ public final class DataHolderProcessor {
         manipulator.set(key, value);
         builder.success(manipulator.getValue(key).get().asImmutable());
 
+        bridge.bridge$markDataDirty();
         DataUtil.syncDataToTag(bridge);
 
         return builder.result(DataTransactionResult.Type.SUCCESS).build();
@@ -62,6 +63,7 @@ public final class DataHolderProcessor {
         final Optional<? extends Value<E>> value = manipulator.getValue(key);
         if (value.isPresent()) {
             manipulator.remove(key);
+            bridge.bridge$markDataDirty();
         }
         DataUtil.syncDataToTag(bridge);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.data;
 
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
@@ -59,4 +61,17 @@ public interface SpongeDataHolderBridge {
     void bridge$invalidateFailedData();
 
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
+
+    /**
+     * Gets the custom data as it was last written to nbt. An empty compound
+     * means there was no custom data to write.
+     *
+     * @return The last serialized custom data, or {@code null} if the custom
+     *     data changed since it was last serialized
+     */
+    @Nullable CompoundTag bridge$getSerializedData();
+
+    void bridge$setSerializedData(@Nullable CompoundTag serializedData);
+
+    void bridge$markDataDirty();
 }
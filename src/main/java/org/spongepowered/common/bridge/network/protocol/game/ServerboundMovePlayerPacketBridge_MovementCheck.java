@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.bridge.network.protocol.game;
+
+import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+
+public interface ServerboundMovePlayerPacketBridge_MovementCheck {
+
+    /**
+     * Merges a later movement packet into this one, unless this packet has
+     * already started being handled or the later packet changes whether the
+     * player is on the ground.
+     *
+     * @return Whether the later packet was merged
+     */
+    boolean movementCheck$absorb(ServerboundMovePlayerPacket next);
+
+    /**
+     * Marks this packet as being handled, after which nothing is merged into
+     * it anymore.
+     *
+     * @return The amount of packets merged into this one
+     */
+    int movementCheck$markHandled();
+
+    /**
+     * Gets the positions the player passed through before the position of
+     * this packet, in the order they were sent. These are the positions of
+     * the packets merged into this one, except the last.
+     *
+     * @return The intermediate positions, empty if none were merged
+     */
+    List<Vec3> movementCheck$waypoints();
+}
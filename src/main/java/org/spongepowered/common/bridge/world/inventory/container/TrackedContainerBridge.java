@@ -29,4 +29,12 @@ public interface TrackedContainerBridge {
     boolean bridge$capturePossible();
 
     void bridge$detectAndSendChanges(boolean captureOnly);
+
+    /**
+     * Marks a menu slot as changed so the next change detection compares it
+     * against the last sent stack, even if the stack was mutated in place.
+     *
+     * @param slotIndex The menu slot index
+     */
+    void bridge$markSlotDirty(int slotIndex);
 }
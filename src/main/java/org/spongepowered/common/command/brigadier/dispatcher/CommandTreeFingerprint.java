@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.brigadier.dispatcher;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+
+/**
+ * Identifies the command tree a player would be sent by the ordered list of
+ * command nodes whose requirements they pass. Nodes are compared by identity,
+ * so registering or replacing nodes naturally produces a different fingerprint.
+ */
+public final class CommandTreeFingerprint {
+
+    private final Object[] usableNodes;
+    private final int hash;
+
+    public CommandTreeFingerprint(final List<Object> usableNodes) {
+        this.usableNodes = usableNodes.toArray();
+        int hash = 1;
+        for (final Object node : this.usableNodes) {
+            hash = 31 * hash + System.identityHashCode(node);
+        }
+        this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final CommandTreeFingerprint that = (CommandTreeFingerprint) o;
+        if (this.hash != that.hash || this.usableNodes.length != that.usableNodes.length) {
+            return false;
+        }
+        for (int i = 0; i < this.usableNodes.length; i++) {
+            if (this.usableNodes[i] != that.usableNodes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
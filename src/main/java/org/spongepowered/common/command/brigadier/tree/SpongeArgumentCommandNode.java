@@ -57,6 +57,7 @@
 import org.spongepowered.common.command.brigadier.argument.ArgumentParser;
 import org.spongepowered.common.command.brigadier.argument.ComplexSuggestionNodeProvider;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 import org.spongepowered.common.command.brigadier.context.SpongeCommandContextBuilder;
 import org.spongepowered.common.util.CommandUtil;
 import org.spongepowered.common.util.Constants;
@@ -93,11 +94,18 @@
         };
     }
 
+    // Completers provided by Sponge itself are assumed to read world state unless they say otherwise,
+    // plugins that need the server thread for their own completers are configured separately.
+    private static boolean isThreadSafe(final Object completer) {
+        return completer instanceof ThreadSafeCompleter || !completer.getClass().getName().startsWith("org.spongepowered.common.");
+    }
+
     private final Parameter.Key<? super T> key;
     private final ArgumentParser<T> parser;
     private final @Nullable ValueParameterModifier<T> modifier;
     private final ValueUsage usage;
     private final boolean isComplexSuggestions;
+    private final boolean isThreadSafeSuggestions;
 
     // used so we can have insertion order.
     private final UnsortedNodeHolder nodeHolder = new UnsortedNodeHolder();
@@ -129,6 +137,7 @@ public SpongeArgumentCommandNode(
         this.parser = parser;
         this.modifier = parameterModifier;
         this.isComplexSuggestions = this.parser instanceof ComplexSuggestionNodeProvider;
+        this.isThreadSafeSuggestions = SpongeArgumentCommandNode.isThreadSafe(valueCompleter == null ? parser : valueCompleter);
         this.key = key;
         this.usage = usage;
     }
@@ -137,6 +146,10 @@ public final boolean isComplex() {
         return this.isComplexSuggestions;
     }
 
+    public final boolean isThreadSafeSuggestions() {
+        return this.isThreadSafeSuggestions;
+    }
+
     public final CommandNode<SharedSuggestionProvider> getComplexSuggestions(
             final CommandNode<SharedSuggestionProvider> rootSuggestionNode,
             final Map<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> commandNodeToSuggestionNode,
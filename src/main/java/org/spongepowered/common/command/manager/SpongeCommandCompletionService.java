@@ -0,0 +1,293 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.arguments.ColorArgument;
+import net.minecraft.commands.arguments.TimeArgument;
+import net.minecraft.commands.arguments.UuidArgument;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.manager.CommandMapping;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.CommandsCompletionCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
+import org.spongepowered.common.command.brigadier.tree.DummyCommandNode;
+import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs tab completions for plugin commands off the server thread.
+ *
+ * <p>Each player has at most a configured number of completions running at
+ * once. A new request from a player supersedes their previous ones: requests
+ * that have not started yet are dropped, and the results of running ones are
+ * discarded by cancelling their futures. Clients only display the response to
+ * their latest request anyway.</p>
+ */
+public final class SpongeCommandCompletionService {
+
+    // Argument types whose suggestions only depend on the input, such that
+    // plain brigadier nodes using them may be completed off the server thread
+    private static final Set<Class<?>> THREAD_SAFE_ARGUMENT_TYPES = ImmutableSet.of(
+        BoolArgumentType.class,
+        DoubleArgumentType.class,
+        FloatArgumentType.class,
+        IntegerArgumentType.class,
+        LongArgumentType.class,
+        StringArgumentType.class,
+        ColorArgument.class,
+        TimeArgument.class,
+        UuidArgument.class
+    );
+
+    private static boolean isThreadSafe(final CommandNode<CommandSourceStack> node) {
+        if (node instanceof SpongeArgumentCommandNode) {
+            return ((SpongeArgumentCommandNode<?>) node).isThreadSafeSuggestions();
+        }
+        if (node instanceof DummyCommandNode) {
+            return true;
+        }
+        if (node instanceof ArgumentCommandNode) {
+            // Anything else, such as entity, score holder or team arguments, reads
+            // the server state while suggesting, and so do unknown custom suggestions
+            final ArgumentCommandNode<CommandSourceStack, ?> argument = (ArgumentCommandNode<CommandSourceStack, ?>) node;
+            return argument.getCustomSuggestions() == null
+                && SpongeCommandCompletionService.THREAD_SAFE_ARGUMENT_TYPES.contains(argument.getType().getClass());
+        }
+        return node instanceof LiteralCommandNode || node instanceof RootCommandNode;
+    }
+
+    private static boolean hasThreadSafeSuggestions(final CommandNode<CommandSourceStack> command) {
+        final Set<CommandNode<CommandSourceStack>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<CommandNode<CommandSourceStack>> toVisit = new ArrayDeque<>();
+        toVisit.add(command);
+        while (!toVisit.isEmpty()) {
+            final CommandNode<CommandSourceStack> node = toVisit.poll();
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (!SpongeCommandCompletionService.isThreadSafe(node)) {
+                return false;
+            }
+            toVisit.addAll(node.getChildren());
+            if (node.getRedirect() != null) {
+                toVisit.add(node.getRedirect());
+            }
+        }
+        return true;
+    }
+
+    private final Map<UUID, PlayerCompletions> players = new ConcurrentHashMap<>();
+    // Weak identity keys, nodes compare by their whole subtree and may belong to unregistered commands
+    private final Map<CommandNode<CommandSourceStack>, Boolean> threadSafeCommands = new MapMaker().weakKeys().makeMap();
+    private volatile @Nullable ExecutorService executor;
+
+    /**
+     * Gets whether completions for the given mapping may be computed off the
+     * server thread.
+     *
+     * @param mapping The mapping of the command being completed, if known
+     * @return Whether to complete asynchronously
+     */
+    public boolean shouldCompleteAsync(final @Nullable CommandMapping mapping) {
+        final CommandsCompletionCategory config = SpongeConfigs.getCommon().get().commands.completion;
+        if (!config.async || mapping == null) {
+            return false;
+        }
+        final Optional<PluginContainer> plugin = mapping.plugin();
+        if (!plugin.isPresent() || Launch.instance().launcherPlugins().contains(plugin.get())) {
+            return false;
+        }
+        return !config.mainThreadPlugins.contains(plugin.get().metadata().id());
+    }
+
+    /**
+     * Gets whether completions for the given brigadier command may be
+     * computed off the server thread.
+     *
+     * <p>In addition to the checks of {@link #shouldCompleteAsync(CommandMapping)},
+     * this keeps commands on the server thread if any of their arguments use
+     * a Sponge provided completer that is not a {@link ThreadSafeCompleter},
+     * such as the world, entity and location parameters, or a plain brigadier
+     * argument type that is not known to be thread safe, or custom
+     * suggestions.</p>
+     *
+     * @param mapping The mapping of the command being completed, if known
+     * @param command The root node of the command being completed
+     * @return Whether to complete asynchronously
+     */
+    public boolean shouldCompleteAsync(final @Nullable CommandMapping mapping, final CommandNode<CommandSourceStack> command) {
+        if (!this.shouldCompleteAsync(mapping)) {
+            return false;
+        }
+        return this.threadSafeCommands.computeIfAbsent(command, SpongeCommandCompletionService::hasThreadSafeSuggestions);
+    }
+
+    /**
+     * Submits a completion for the given player, superseding any of their
+     * earlier requests.
+     *
+     * @param player The player requesting completions
+     * @param completion The completion to run
+     * @param <T> The type of completion result
+     * @return A future completing with the result, or cancelled if superseded
+     */
+    public <T> CompletableFuture<T> submit(final UUID player, final Supplier<T> completion) {
+        final Request<T> request = new Request<>(completion);
+        this.players.compute(player, (id, existing) -> {
+            final PlayerCompletions state = existing == null ? new PlayerCompletions() : existing;
+            if (state.latest != null) {
+                state.latest.result.cancel(false);
+            }
+            state.latest = request;
+            if (state.running < Math.max(1, SpongeConfigs.getCommon().get().commands.completion.maxInFlightPerPlayer)) {
+                state.running++;
+                this.start(id, request);
+            } else {
+                state.pending = request;
+            }
+            return state;
+        });
+        return request.result;
+    }
+
+    private void start(final UUID player, final Request<?> request) {
+        this.executor().execute(() -> {
+            try {
+                request.run();
+            } finally {
+                this.finish(player);
+            }
+        });
+    }
+
+    private void finish(final UUID player) {
+        this.players.computeIfPresent(player, (id, state) -> {
+            state.running--;
+            final @Nullable Request<?> next = state.pending;
+            state.pending = null;
+            if (next != null && !next.result.isDone()) {
+                state.running++;
+                this.start(id, next);
+            }
+            return state.running == 0 ? null : state;
+        });
+    }
+
+    /**
+     * Cancels all completions and shuts down the completion threads. A later
+     * submission starts new threads.
+     */
+    public void close() {
+        final @Nullable ExecutorService executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.executor = null;
+        }
+        this.players.values().forEach(state -> {
+            if (state.latest != null) {
+                state.latest.result.cancel(false);
+            }
+        });
+        this.players.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExecutorService executor() {
+        if (this.executor == null) {
+            synchronized (this) {
+                if (this.executor == null) {
+                    final int threads = Math.max(1, SpongeConfigs.getCommon().get().commands.completion.threads);
+                    this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                            .setDaemon(true)
+                            .setNameFormat("Sponge-Command-Completion-%d")
+                            .build());
+                }
+            }
+        }
+        return this.executor;
+    }
+
+    private static final class PlayerCompletions {
+
+        int running;
+        @Nullable Request<?> pending;
+        @Nullable Request<?> latest;
+    }
+
+    private static final class Request<T> {
+
+        final Supplier<T> completion;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Request(final Supplier<T> completion) {
+            this.completion = completion;
+        }
+
+        void run() {
+            if (this.result.isDone()) {
+                // Superseded before it got to run
+                return;
+            }
+            try {
+                this.result.complete(this.completion.get());
+            } catch (final Throwable t) {
+                SpongeCommon.logger().error("Could not compute command completions", t);
+                this.result.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -126,6 +126,7 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
+    private final SpongeCommandCompletionService completionService = new SpongeCommandCompletionService();
     private BrigadierCommandRegistrar brigadierRegistrar;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
@@ -146,6 +147,10 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         return this.brigadierRegistrar;
     }
 
+    public SpongeCommandCompletionService completionService() {
+        return this.completionService;
+    }
+
     @Override
     public @NonNull Set<String> knownAliases() {
         return Collections.unmodifiableSet(new HashSet<>(this.commandMappings.keySet()));
@@ -632,6 +637,19 @@ public Collection<CommandNode<SharedSuggestionProvider>> getNonBrigadierSuggesti
         return suggestions;
     }
 
+    /**
+     * Adds the suggestion tree nodes that {@link #getNonBrigadierSuggestions(CommandCause)}
+     * would include for the given cause, in order, without building them.
+     *
+     * @param cause The cause
+     * @param usable The list to add usable nodes to
+     */
+    public void collectNonBrigadierSuggestionNodes(final CommandCause cause, final List<Object> usable) {
+        for (final RootCommandTreeNode node : this.mappingToSuggestionNodes.values()) {
+            node.collectUsableNodes(cause, usable);
+        }
+    }
+
     public Collection<String> getAliasesThatStartWithForCause(final CommandCause cause, final String startingText) {
         final String toCompare = startingText.toLowerCase(Locale.ROOT);
         final List<String> aliases = new ArrayList<>();
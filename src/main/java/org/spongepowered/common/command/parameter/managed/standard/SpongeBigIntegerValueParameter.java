@@ -32,13 +32,14 @@
 import org.spongepowered.api.command.exception.ArgumentParseException;
 import org.spongepowered.api.command.parameter.ArgumentReader;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 
 import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeBigIntegerValueParameter extends ResourceKeyedArgumentValueParser<BigInteger> {
+public final class SpongeBigIntegerValueParameter extends ResourceKeyedArgumentValueParser<BigInteger> implements ThreadSafeCompleter {
 
     public SpongeBigIntegerValueParameter(final ResourceKey key) {
         super(key);
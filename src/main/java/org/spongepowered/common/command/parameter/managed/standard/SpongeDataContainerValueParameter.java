@@ -34,13 +34,14 @@
 import org.spongepowered.api.command.parameter.ArgumentReader;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 import org.spongepowered.common.util.Constants;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeDataContainerValueParameter extends ResourceKeyedArgumentValueParser<DataContainer> {
+public final class SpongeDataContainerValueParameter extends ResourceKeyedArgumentValueParser<DataContainer> implements ThreadSafeCompleter {
 
     public SpongeDataContainerValueParameter(final ResourceKey key) {
         super(key);
@@ -32,6 +32,7 @@
 import org.spongepowered.api.command.exception.ArgumentParseException;
 import org.spongepowered.api.command.parameter.ArgumentReader;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,7 +42,7 @@
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeDateTimeValueParameter extends ResourceKeyedArgumentValueParser<LocalDateTime> {
+public final class SpongeDateTimeValueParameter extends ResourceKeyedArgumentValueParser<LocalDateTime> implements ThreadSafeCompleter {
 
     public SpongeDateTimeValueParameter(final ResourceKey key) {
         super(key);
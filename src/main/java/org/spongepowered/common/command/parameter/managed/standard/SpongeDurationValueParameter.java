@@ -32,6 +32,7 @@
 import org.spongepowered.api.command.exception.ArgumentParseException;
 import org.spongepowered.api.command.parameter.ArgumentReader;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
@@ -39,7 +40,7 @@
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeDurationValueParameter extends ResourceKeyedArgumentValueParser<Duration> {
+public final class SpongeDurationValueParameter extends ResourceKeyedArgumentValueParser<Duration> implements ThreadSafeCompleter {
 
     public SpongeDurationValueParameter(final ResourceKey key) {
         super(key);
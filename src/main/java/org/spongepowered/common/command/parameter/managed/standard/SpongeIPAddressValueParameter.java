@@ -32,6 +32,7 @@
 import org.spongepowered.api.command.exception.ArgumentParseException;
 import org.spongepowered.api.command.parameter.ArgumentReader;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -39,7 +40,7 @@
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeIPAddressValueParameter extends ResourceKeyedArgumentValueParser<InetAddress> {
+public final class SpongeIPAddressValueParameter extends ResourceKeyedArgumentValueParser<InetAddress> implements ThreadSafeCompleter {
 
     public SpongeIPAddressValueParameter(final ResourceKey key) {
         super(key);
@@ -33,12 +33,13 @@
 import org.spongepowered.api.command.parameter.managed.clientcompletion.ClientCompletionType;
 import org.spongepowered.api.command.parameter.managed.clientcompletion.ClientCompletionTypes;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeNoneValueParameter extends ResourceKeyedArgumentValueParser<Void> {
+public final class SpongeNoneValueParameter extends ResourceKeyedArgumentValueParser<Void> implements ThreadSafeCompleter {
 
     public SpongeNoneValueParameter(final ResourceKey key) {
         super(key);
@@ -40,6 +40,7 @@
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.accessor.commands.arguments.OperationArgumentAccessor;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 
 import java.util.Collections;
 import java.util.List;
@@ -49,7 +50,7 @@
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public final class SpongeOperatorValueParameter extends ResourceKeyedArgumentValueParser.ClientNativeCompletions<Operator> {
+public final class SpongeOperatorValueParameter extends ResourceKeyedArgumentValueParser.ClientNativeCompletions<Operator> implements ThreadSafeCompleter {
 
     private final OperationArgument operationArgument = OperationArgument.operation();
     private Map<String, Operator> operators;
@@ -36,13 +36,14 @@
 import org.spongepowered.api.command.parameter.CommandContext;
 import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.common.command.brigadier.argument.AbstractArgumentParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeCompleter;
 import org.spongepowered.common.util.Constants;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public final class SpongeTextValueParameter extends AbstractArgumentParser<Component> {
+public final class SpongeTextValueParameter extends AbstractArgumentParser<Component> implements ThreadSafeCompleter {
 
     private final ComponentSerializer<Component, ? extends Component, String> textSerializer;
     private final boolean consumeAll;
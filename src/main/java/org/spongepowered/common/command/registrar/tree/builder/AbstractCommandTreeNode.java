@@ -38,8 +38,10 @@
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public abstract class AbstractCommandTreeNode<T extends CommandTreeNode<@NonNull T>, O extends CommandNode<SharedSuggestionProvider>>
@@ -157,6 +159,25 @@ protected final void addChildNodesToTree(
         });
     }
 
+    /**
+     * Adds every node below this one whose requirement passes for the given
+     * cause, following the same path {@link #addChildNodesToTree} takes.
+     *
+     * @param cause The cause to test requirements against
+     * @param usable The list to add usable nodes to, in visiting order
+     * @param visited Nodes that have already been visited
+     */
+    public final void collectUsableChildren(final CommandCause cause, final List<Object> usable, final Set<Object> visited) {
+        this.getChildren().forEach((key, value) -> {
+            if (value.requirement.test(cause)) {
+                usable.add(value);
+                if (visited.add(value) && !(value.redirect instanceof AbstractCommandTreeNode<?, ?>)) {
+                    value.collectUsableChildren(cause, usable, visited);
+                }
+            }
+        });
+    }
+
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
@@ -34,8 +34,10 @@
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class RootCommandTreeNode extends AbstractCommandTreeNode<CommandTreeNode.Root, RootCommandNode<SharedSuggestionProvider>>
@@ -66,6 +68,20 @@ public final class RootCommandTreeNode extends AbstractCommandTreeNode<CommandTr
         return null;
     }
 
+    /**
+     * Adds the nodes {@link #createArgumentTree} would include for the given
+     * cause, without building the tree.
+     *
+     * @param cause The cause to test requirements against
+     * @param usable The list to add usable nodes to
+     */
+    public void collectUsableNodes(final CommandCause cause, final List<Object> usable) {
+        if (this.getRequirement().test(cause)) {
+            usable.add(this);
+            this.collectUsableChildren(cause, usable, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
     @Override
     protected RootCommandNode<SharedSuggestionProvider> createElement(final String nodeKey) {
         // node key is ignored.
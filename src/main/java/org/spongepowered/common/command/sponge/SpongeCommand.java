@@ -66,6 +66,7 @@
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scoreboard.ScoreboardPacketQueue;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 import org.spongepowered.plugin.metadata.model.PluginContributor;
@@ -129,6 +130,13 @@ public Command.Parameterized createSpongeCommand() {
                 .executor(this::heapSubcommandExecutor)
                 .build();
 
+        // /sponge metrics
+        final Command.Parameterized metricsCommand = Command.builder()
+                .permission("sponge.command.metrics")
+                .shortDescription(Component.text("Display how much network traffic Sponge's optimizations saved"))
+                .executor(this::metricsExecutor)
+                .build();
+
         // /sponge plugins
         final Command.Parameterized pluginsReloadCommand = Command.builder()
                 .permission("sponge.command.plugins.refresh")
@@ -209,6 +217,7 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(auditCommand, "audit")
                 .addChild(chunksCommand, "chunks")
                 .addChild(heapCommand, "heap")
+                .addChild(metricsCommand, "metrics")
                 .addChild(pluginsCommand, "plugins")
                 .addChild(tpsCommand, "tps")
                 .addChild(versionCommand, "version")
@@ -490,6 +499,16 @@ private Command.Parameterized chunksSubcommand() {
         return CommandResult.success();
     }
 
+    private @NonNull CommandResult metricsExecutor(final CommandContext context) {
+        final boolean enabled = SpongeConfigs.getCommon().get().optimizations.coalesceScoreboardPackets;
+        context.sendMessage(Identity.nil(), Component.text()
+                .append(Component.text("Scoreboard packets saved: ", NamedTextColor.GRAY))
+                .append(Component.text(ScoreboardPacketQueue.packetsSaved(), NamedTextColor.WHITE))
+                .append(Component.text(enabled ? "" : " (coalescing disabled)", NamedTextColor.GRAY))
+                .build());
+        return CommandResult.success();
+    }
+
     private @NonNull CommandResult tpsExecutor(final CommandContext context) {
         if (SpongeCommon.game().isServerAvailable()) {
             final List<Component> tps = new ArrayList<>();
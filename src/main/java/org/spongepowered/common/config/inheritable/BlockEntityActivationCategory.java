@@ -46,6 +46,22 @@ public final class BlockEntityActivationCategory {
     @Comment("Default tick rate used for all block entities unless overridden.")
     public int defaultTickRate = 1;
 
+    @Setting("tick-budget")
+    @Comment("The time in milliseconds all block entities of a world may take to tick each tick.\n"
+             + "When exceeded, block entities with the lowest priority take turns ticking on later\n"
+             + "ticks until ticking fits the budget again. Set to 0 to always tick all block entities.\n"
+             + "Requires 'optimizations.block-entity-tick-budget' in the global configuration.")
+    public double tickBudget = 0;
+
+    @Setting("max-deferred-ticks")
+    @Comment("The maximum number of ticks a block entity is deferred for when the tick budget is exceeded.")
+    public int maxDeferredTicks = 20;
+
+    @Setting("default-priority")
+    @Comment("Default tick budget priority used for all block entities unless overridden.\n"
+             + "Block entities with a higher priority are deferred last.")
+    public int defaultPriority = 0;
+
     @Setting
     @Comment("Per-mod overrides. Refer to the minecraft default mod for example.")
     public final Map<String, MobSubCategory> mods = new HashMap<>();
@@ -63,10 +79,16 @@ public static final class MobSubCategory {
         @Setting("default-tick-rate")
         public Integer defaultTickRate;
 
+        @Setting("default-priority")
+        public Integer defaultPriority;
+
         @Setting
         public final Map<String, Integer> ranges = new HashMap<>();
 
         @Setting("tick-rates")
         public final Map<String, Integer> tickRates = new HashMap<>();
+
+        @Setting
+        public final Map<String, Integer> priorities = new HashMap<>();
     }
 }
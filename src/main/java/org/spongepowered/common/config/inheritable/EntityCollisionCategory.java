@@ -48,6 +48,14 @@ public final class EntityCollisionCategory {
         + "spawn pen. Set to 0 to disable.")
     public int maxEntitiesWithinAABB = 8;
 
+    @Setting("spatial-grid")
+    @Comment("If 'true', living entities look up the entities they push in a grid that is\n"
+        + "built once per tick and updated as entities move, instead of scanning every\n"
+        + "entity in the surrounding chunk sections. This greatly reduces the cost of\n"
+        + "dense mob farms. Requires 'modules.entity-collision-grid' in the global\n"
+        + "configuration.")
+    public boolean spatialGrid = false;
+
     public EntityCollisionCategory() {
         this.mods.put("minecraft", new ModSubCategory("minecraft"));
     }
@@ -48,5 +48,15 @@ public static final class PlayerSubCategory {
         @Setting("vehicle-moved-too-quickly")
         @Comment("Controls whether the 'vehicle of player moved too quickly!' check will be enforced")
         public boolean vehicleMovedTooQuickly = true;
+
+        @Setting("collapse-move-packets")
+        @Comment("If 'true', consecutive movement packets a player sends before the server gets\n"
+            + "to process them are merged into the latest one, so the movement checks and\n"
+            + "move events run once for the whole batch instead of once per packet. Packets\n"
+            + "are never merged across any other packet from the same player. When the\n"
+            + "straight path to the latest position is blocked, the merged packets are\n"
+            + "handled one by one instead, so players moving around corners are not\n"
+            + "corrected by the 'moved wrongly' check.")
+        public boolean collapseMovePackets = false;
     }
 }
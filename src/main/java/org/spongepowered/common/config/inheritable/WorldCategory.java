@@ -47,6 +47,13 @@ public final class WorldCategory {
         + "Note: 20 ticks is equivalent to 1 second.")
     public int autoSaveInterval = 6000;
 
+    @Setting("spawn-chunk-radius")
+    @Comment("The radius, in chunks, of the start region that is prepared when the world \n"
+        + "loads and kept loaded if the world keeps its spawn loaded. Chunks within one \n"
+        + "chunk less than this radius are fully ticking. (Default: 11) \n"
+        + "Note: Values are limited to between 1 and 32.")
+    public int spawnChunkRadius = 11;
+
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
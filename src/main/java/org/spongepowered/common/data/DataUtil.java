@@ -25,6 +25,7 @@
 package org.spongepowered.common.data;
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
@@ -41,11 +42,16 @@
 import org.spongepowered.common.util.Constants;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public final class DataUtil {
 
+    private static final String SPONGE_DATA = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".");
+
     public static void syncTagToData(final Object dataHolder) {
         if (dataHolder instanceof SpongeDataHolderBridge && dataHolder instanceof DataCompoundHolder) {
             DataUtil.deserializeSpongeData((SpongeDataHolderBridge & DataCompoundHolder) dataHolder);
@@ -64,12 +70,14 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         if (compound == null) {
             return;
         }
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
+        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
+        final Collection<DataStore> dataStores = SpongeDataManager.getDatastoreRegistry().getDataStoresForType(typeToken);
+        // Only the custom data compounds need to be translated when no data-store reads outside of them
+        final DataContainer allData = NBTTranslator.INSTANCE.translate(DataUtil.isSpongeDataOnly(dataStores) ? DataUtil.customDataCompound(compound) : compound);
 
         DataUtil.upgradeDataVersion(compound, allData); // Upgrade v2->v3
 
         // Run content-updaters and collect failed data
-        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
         allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).ifPresent(customData -> {
             for (final DataQuery keyNamespace : customData.keys(false)) {
                 final DataView keyedData = customData.getView(keyNamespace).get();
@@ -93,7 +101,7 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         });
 
         dataHolder.bridge$mergeDeserialized(DataManipulator.mutableOf()); // Initialize sponge data holder
-        for (final DataStore dataStore : SpongeDataManager.getDatastoreRegistry().getDataStoresForType(typeToken)) {
+        for (final DataStore dataStore : dataStores) {
             // Deserialize to Manipulator
             final DataManipulator.Mutable deserialized = dataStore.deserialize(allData);
             try {
@@ -178,8 +186,46 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
             compound = new CompoundTag();
             dataHolder.data$setCompound(compound);
         }
-        compound.remove(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".")); // Remove all previous SpongeData
+        compound.remove(DataUtil.SPONGE_DATA); // Remove all previous SpongeData
+
+        CompoundTag spongeData = dataHolder.bridge$getSerializedData(); // Unchanged since the last serialization
+        if (spongeData == null) {
+            final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
+            final Type dataHolderType = dataHolder.getClass();
+            final List<DataStore> dataStores = manipulator.getKeys().stream()
+                    .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
+                    .distinct()
+                    .collect(Collectors.toList());
+            if (DataUtil.isSpongeDataOnly(dataStores)) {
+                spongeData = DataUtil.serializeCustomData(dataHolder, manipulator, dataStores);
+                dataHolder.bridge$setSerializedData(spongeData);
+            } else {
+                DataUtil.serializeAllData(dataHolder, compound, manipulator, dataStores);
+            }
+        }
+        if (spongeData != null && !spongeData.isEmpty()) {
+            compound.put(DataUtil.SPONGE_DATA, spongeData.copy());
+        }
+        if (compound.isEmpty()) {
+            dataHolder.data$setCompound(null);
+            return false;
+        }
+        return true;
+    }
 
+    private static CompoundTag serializeCustomData(final SpongeDataHolderBridge dataHolder, final DataManipulator.Mutable manipulator,
+            final List<DataStore> dataStores) {
+        final DataContainer customData = DataContainer.createNew();
+        final DataView customDataRoot = customData.createView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
+
+        dataHolder.bridge$getFailedData().forEach(customDataRoot::set); // Add back failed data
+
+        dataStores.forEach(dataStore -> dataStore.serialize(manipulator, customData));
+        return NBTTranslator.INSTANCE.translate(customData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).get());
+    }
+
+    private static void serializeAllData(final SpongeDataHolderBridge dataHolder, final CompoundTag compound,
+            final DataManipulator.Mutable manipulator, final List<DataStore> dataStores) {
         final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
 
         // Clear old custom data root
@@ -187,23 +233,41 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
 
         dataHolder.bridge$getFailedData().forEach(customDataRoot::set); // Add back failed data
 
-        final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
-        final Type dataHolderType = dataHolder.getClass();
-        manipulator.getKeys().stream()
-                .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
-                .forEach(dataStore -> dataStore.serialize(manipulator, allData));
+        dataStores.forEach(dataStore -> dataStore.serialize(manipulator, allData));
 
         // If data is still present after cleanup merge it back into nbt
         if (DataUtil.cleanupEmptySpongeData(allData)) {
             compound.merge(NBTTranslator.INSTANCE.translate(allData));
         }
-        if (compound.isEmpty()) {
-            dataHolder.data$setCompound(null);
-            return false;
+    }
+
+    /**
+     * Whether the given data-stores only touch the custom data compound,
+     * allowing the rest of the holder's nbt to be left untranslated.
+     */
+    private static boolean isSpongeDataOnly(final Collection<DataStore> dataStores) {
+        for (final DataStore dataStore : dataStores) {
+            // The registry falls back to an empty no-op data-store for unknown keys
+            if (!(dataStore instanceof SpongeDataStore) && !dataStore.supportedTypes().isEmpty()) {
+                return false;
+            }
         }
         return true;
     }
 
+    private static CompoundTag customDataCompound(final CompoundTag compound) {
+        final CompoundTag customData = new CompoundTag();
+        final Tag spongeData = compound.get(DataUtil.SPONGE_DATA);
+        if (spongeData != null) {
+            customData.put(DataUtil.SPONGE_DATA, spongeData);
+        }
+        final Tag forgeData = compound.get(Constants.Forge.FORGE_DATA); // May contain v2 data to upgrade
+        if (forgeData != null) {
+            customData.put(Constants.Forge.FORGE_DATA, forgeData);
+        }
+        return customData;
+    }
+
     private static boolean cleanupEmptySpongeData(final DataContainer allData) {
         return allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).map(spongeData -> {
                 if (spongeData.isEmpty()) {
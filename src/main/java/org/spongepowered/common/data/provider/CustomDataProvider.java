@@ -40,10 +40,25 @@
 public class CustomDataProvider<V extends Value<E>, E> extends MutableDataProvider<V, E> {
 
     private final Set<Type> supportedTokens;
+    private final boolean supportsBlockEntities;
+    // The supported tokens never change for a provider, new registrations register new providers
+    private final ClassValue<Boolean> supportedHolderClasses = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return CustomDataProvider.this.isAssignableToToken(type);
+        }
+    };
+    private final ClassValue<Boolean> supportedHolderTypes = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return CustomDataProvider.this.isSubTypeOfToken(type);
+        }
+    };
 
     public CustomDataProvider(final Key<V> key, final Set<Type> supportedTokens) {
         super(key);
         this.supportedTokens = supportedTokens;
+        this.supportsBlockEntities = this.isAssignableToToken(BlockEntity.class);
     }
 
     @Override
@@ -68,29 +83,32 @@ private static SpongeDataHolderBridge getCustomDataHolder(DataHolder dataHolder)
     @Override
     public boolean isSupported(DataHolder dataHolder) {
         if (dataHolder instanceof ServerLocation) {
-            if (!((ServerLocation) dataHolder).hasBlockEntity()) {
-                return false;
-            }
-            for (final Type type : this.supportedTokens) {
-                if (GenericTypeReflector.erase(type).isAssignableFrom(BlockEntity.class)) {
-                    return true;
-                }
-            }
-            return false;
+            return this.supportsBlockEntities && ((ServerLocation) dataHolder).hasBlockEntity();
         }
         if (!(dataHolder instanceof SpongeDataHolderBridge)) {
             return false;
         }
+        return this.supportedHolderClasses.get(dataHolder.getClass());
+    }
+
+    @Override
+    public boolean isSupported(final Type dataHolder) {
+        if (dataHolder instanceof Class) {
+            return this.supportedHolderTypes.get((Class<?>) dataHolder);
+        }
+        return this.isSubTypeOfToken(dataHolder);
+    }
+
+    private boolean isAssignableToToken(final Class<?> dataHolder) {
         for (final Type type : this.supportedTokens) {
-            if (GenericTypeReflector.erase(type).isAssignableFrom(dataHolder.getClass())) {
+            if (GenericTypeReflector.erase(type).isAssignableFrom(dataHolder)) {
                 return true;
             }
         }
         return false;
     }
 
-    @Override
-    public boolean isSupported(final Type dataHolder) {
+    private boolean isSubTypeOfToken(final Type dataHolder) {
         if (!SpongeDataHolderBridge.class.isAssignableFrom(GenericTypeReflector.erase(dataHolder))) {
             return true;
         }
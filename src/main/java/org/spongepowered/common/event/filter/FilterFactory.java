@@ -29,9 +29,18 @@
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.leangen.geantyref.AnnotationFormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.Type;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.manager.ListenerClassVisitor;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class FilterFactory {
@@ -40,6 +49,8 @@ public class FilterFactory {
     private final DefineableClassLoader classLoader;
     private final LoadingCache<ListenerClassVisitor.DiscoveredMethod, Class<? extends EventFilter>> cache = Caffeine.newBuilder()
             .weakValues().build(this::createClass);
+    // Methods with the same parameters and annotations filter the same way, regardless of the class they are declared in
+    private final Map<FilterSignature, Class<? extends EventFilter>> filtersBySignature = new ConcurrentHashMap<>();
     private final String targetPackage;
 
     public FilterFactory(final String targetPackage, final DefineableClassLoader classLoader) {
@@ -56,15 +67,69 @@ public Class<? extends EventFilter> createFilter(final ListenerClassVisitor.Disc
 
     Class<? extends EventFilter> createClass(final ListenerClassVisitor.DiscoveredMethod method) throws
         ClassNotFoundException {
+        final FilterSignature signature = FilterSignature.of(method);
+        final Class<? extends EventFilter> existing = this.filtersBySignature.get(signature);
+        if (existing != null) {
+            return existing;
+        }
         final Class<?> handle = method.declaringClass();
         final Class<?> eventClass = method.parameterTypes()[0].clazz();
         final String name = this.targetPackage + eventClass.getSimpleName() + "Filter_" + handle.getSimpleName() + '_'
                 + method.methodName() + this.id.incrementAndGet();
         final byte[] cls = FilterGenerator.getInstance().generateClass(name, method);
+        final Class<? extends EventFilter> filter;
         if (cls == null) {
-            return EventFilter.class; // cache does not permit nulls
+            filter = EventFilter.class; // cache does not permit nulls
+        } else {
+            filter = this.classLoader.defineClass(name, cls);
+        }
+        final Class<? extends EventFilter> previous = this.filtersBySignature.putIfAbsent(signature, filter);
+        return previous == null ? filter : previous;
+    }
+
+    private static final class FilterSignature {
+
+        private final List<Type> parameterTypes = new ArrayList<>();
+        private final List<Annotation> annotations = new ArrayList<>();
+        private final List<List<Annotation>> parameterAnnotations = new ArrayList<>();
+
+        static FilterSignature of(final ListenerClassVisitor.DiscoveredMethod method) throws ClassNotFoundException {
+            final FilterSignature signature = new FilterSignature();
+            try {
+                for (final ListenerClassVisitor.ListenerAnnotation annotation : method.annotations()) {
+                    signature.annotations.add(annotation.annotation());
+                }
+                for (final ListenerClassVisitor.ListenerParameter parameter : method.parameterTypes()) {
+                    signature.parameterTypes.add(parameter.type());
+                    final List<Annotation> annotations = new ArrayList<>();
+                    for (final ListenerClassVisitor.ListenerAnnotation annotation : parameter.annotations()) {
+                        annotations.add(annotation.annotation());
+                    }
+                    signature.parameterAnnotations.add(annotations);
+                }
+            } catch (final AnnotationFormatException e) {
+                throw new ClassNotFoundException("Failed to load annotation", e);
+            }
+            return signature;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final FilterSignature that = (FilterSignature) o;
+            return this.parameterTypes.equals(that.parameterTypes) && this.annotations.equals(that.annotations)
+                && this.parameterAnnotations.equals(that.parameterAnnotations);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.parameterTypes, this.annotations, this.parameterAnnotations);
         }
-        return this.classLoader.defineClass(name, cls);
     }
 
 }
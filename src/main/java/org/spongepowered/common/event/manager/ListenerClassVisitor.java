@@ -44,6 +44,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
@@ -73,15 +74,42 @@ private ListenerClassVisitor(final Class<?> handle) {
         this.declaringClass = handle;
     }
 
+    /**
+     * The listener methods found per class. Sharing the discovered methods
+     * between registrations also lets the listener and filter factories
+     * reuse the classes they generated for them.
+     */
+    private static final ClassValue<List<DiscoveredMethod>> LISTENER_METHODS = new ClassValue<List<DiscoveredMethod>>() {
+        @Override
+        protected List<DiscoveredMethod> computeValue(final Class<?> type) {
+            try {
+                return ListenerClassVisitor.readEventListenerMethods(type);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e); // not cached, the next lookup tries again
+            }
+        }
+    };
+
     static List<DiscoveredMethod> getEventListenerMethods(final Class<?> handle) throws
         IOException,
         NoSuchMethodException {
+        try {
+            return ListenerClassVisitor.LISTENER_METHODS.get(handle);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<DiscoveredMethod> readEventListenerMethods(final Class<?> handle) throws IOException {
         final @Nullable InputStream classStream = handle.getClassLoader().getResourceAsStream(
             handle.getName().replace(".", "/") + ".class");
         if (classStream == null) {
             throw new IOException("Could not find class " + handle.getName());
         }
-        final ClassReader reader = new ClassReader(classStream);
+        final ClassReader reader;
+        try (final InputStream in = classStream) {
+            reader = new ClassReader(in);
+        }
         final ListenerClassVisitor classVisitor = new ListenerClassVisitor(handle);
         reader.accept(classVisitor, 0);
         return classVisitor.foundListenerMethods();
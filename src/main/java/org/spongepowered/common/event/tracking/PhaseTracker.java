@@ -211,6 +211,8 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
     private final Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
     private int min_depth = 0;
     private int[] duplicateCauses = new int[100];
+    // The cause cached before the object at each depth was pushed, restored when it is popped again
+    private @Nullable Cause[] causeSnapshots = new Cause[100];
     private @Nullable Cause cached_cause;
     private @Nullable EventContext cached_ctx;
     private final AtomicBoolean pendingProviders = new AtomicBoolean(false);
@@ -511,7 +513,6 @@ public EventContext currentContext() {
     public CauseStackManager pushCause(final Object obj) {
         checkNotNull(obj, "obj");
         this.enforceMainThread();
-        this.cached_cause = null;
         if (this.cause.peek() == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
@@ -529,6 +530,12 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
+        final int size = this.cause.size();
+        if (this.causeSnapshots.length <= size) {
+            this.causeSnapshots = Arrays.copyOf(this.causeSnapshots, (int) (size * 1.5));
+        }
+        this.causeSnapshots[size] = this.cached_cause;
+        this.cached_cause = null;
         this.cause.push(obj);
         return this;
     }
@@ -549,8 +556,17 @@ public Object popCause() {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                                                 + size + " but mid depth is " + this.min_depth + ")");
         }
-        this.cached_cause = null;
-        return this.cause.pop();
+        final Object popped = this.cause.pop();
+        // Alternating push and pop around event posts can reuse the cause built before the push
+        final @Nullable Cause snapshot = this.causeSnapshots[size - 1];
+        this.causeSnapshots[size - 1] = null;
+        this.cached_cause = this.isCurrent(snapshot) ? snapshot : null;
+        return popped;
+    }
+
+    // A cached cause is only current if it was built from the currently cached context
+    private boolean isCurrent(final @Nullable Cause cause) {
+        return cause != null && this.cached_ctx != null && cause.context() == this.cached_ctx;
     }
 
     @Override
@@ -588,6 +604,8 @@ public StackFrame pushCauseFrame() {
             frame.old_min_depth = this.min_depth;
             frame.lastCauseSize = this.duplicateCauses[size];
         }
+        frame.savedCause = this.cached_cause;
+        frame.savedContext = this.cached_ctx;
 
         this.frames.push(frame);
         this.min_depth = size;
@@ -664,7 +682,8 @@ public void popCauseFrame(final StackFrame oldFrame) {
 
         // Remove new values
         for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
+            // The context is now back to what it was when the frame was pushed
+            this.cached_ctx = frame.savedContext;
             if (entry.getValue() == null) { // wasn't present before, remove
                 this.ctx.remove(entry.getKey());
             } else { // was there, replace
@@ -685,10 +704,15 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 this.duplicateCauses[index] = 0;
             }
             this.cause.pop();
+            this.causeSnapshots[index - 1] = null;
 
             // and clear the cached causes
             this.cached_cause = null;
         }
+        // The causes are the same as when the frame was pushed, so is the cause built back then
+        if (!this.isCurrent(this.cached_cause)) {
+            this.cached_cause = this.isCurrent(frame.savedCause) ? frame.savedCause : null;
+        }
         this.min_depth = frame.old_min_depth;
         final int size = this.cause.size();
         if (this.duplicateCauses.length > size) {
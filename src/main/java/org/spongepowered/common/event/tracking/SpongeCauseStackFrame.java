@@ -43,6 +43,9 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    // What the tracker had cached when this frame was pushed, still valid once it is popped
+    @Nullable Cause savedCause;
+    @Nullable EventContext savedContext;
 
     @Nullable Exception stackDebug = null;
 
@@ -58,6 +61,8 @@ public void clear() {
         this.storedContext.clear();
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
+        this.savedCause = null;
+        this.savedContext = null;
         this.stackDebug = null;
     }
 
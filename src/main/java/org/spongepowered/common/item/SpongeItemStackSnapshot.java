@@ -55,9 +55,11 @@
 import org.spongepowered.common.item.util.ItemStackUtil;
 import org.spongepowered.common.util.Constants;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -67,15 +69,50 @@ public class SpongeItemStackSnapshot implements ItemStackSnapshot {
 
     public static final ItemStackSnapshot EMPTY = new SpongeItemStackSnapshot(ItemStackUtil.fromNative(net.minecraft.world.item.ItemStack.EMPTY));
 
+    /**
+     * Snapshots of stacks without any nbt or custom data, by item and count.
+     * Snapshots are immutable, so these are handed out to every caller.
+     */
+    private static final Map<Item, AtomicReferenceArray<SpongeItemStackSnapshot>> INTERNED = new ConcurrentHashMap<>();
+
     private final ItemType itemType;
     private final int quantity;
     private final int damageValue;
     private final ImmutableList<DataManipulator.Immutable> manipulators;
     private final transient ItemStack privateStack; // only for internal use since the processors have a huge say
-    private final ImmutableSet<Key<?>> keys;
-    private final ImmutableSet<org.spongepowered.api.data.value.Value.Immutable<?>> values;
-    private final @Nullable CompoundTag compound;
-    private @Nullable UUID creatorUniqueId;
+    private @Nullable ImmutableSet<Key<?>> keys;
+    private @Nullable ImmutableSet<org.spongepowered.api.data.value.Value.Immutable<?>> values;
+    private final @Nullable CompoundTag compound; // never modified, copied whenever it leaves this snapshot
+
+    /**
+     * Creates a snapshot of the given stack, reusing a shared snapshot if the
+     * stack has neither nbt nor custom data.
+     *
+     * @param itemStack The stack to snapshot
+     * @return The snapshot
+     */
+    public static ItemStackSnapshot of(final ItemStack itemStack) {
+        final net.minecraft.world.item.ItemStack nativeStack = ItemStackUtil.toNative(itemStack);
+        if (nativeStack == net.minecraft.world.item.ItemStack.EMPTY) {
+            return SpongeItemStackSnapshot.EMPTY;
+        }
+        final int count = nativeStack.getCount();
+        if (nativeStack.getTag() != null || count < 0 || count > nativeStack.getMaxStackSize()
+                || !((SpongeDataHolderBridge) itemStack).bridge$getManipulator().getKeys().isEmpty()) {
+            return new SpongeItemStackSnapshot(itemStack);
+        }
+        final AtomicReferenceArray<SpongeItemStackSnapshot> byCount = SpongeItemStackSnapshot.INTERNED.computeIfAbsent(nativeStack.getItem(),
+                item -> new AtomicReferenceArray<>(item.getMaxStackSize() + 1));
+        if (count >= byCount.length()) {
+            return new SpongeItemStackSnapshot(itemStack);
+        }
+        final SpongeItemStackSnapshot interned = byCount.get(count);
+        if (interned != null) {
+            return interned;
+        }
+        final SpongeItemStackSnapshot snapshot = new SpongeItemStackSnapshot(itemStack);
+        return byCount.compareAndSet(count, null, snapshot) ? snapshot : byCount.get(count);
+    }
 
     @SuppressWarnings({"EqualsBetweenInconvertibleTypes", "ConstantConditions"})
     public SpongeItemStackSnapshot(final ItemStack itemStack) {
@@ -93,24 +130,15 @@ public SpongeItemStackSnapshot(final ItemStack itemStack) {
         }
         this.itemType = itemStack.type();
         this.quantity = itemStack.quantity();
-        final ImmutableList.Builder<DataManipulator.Immutable> builder = ImmutableList.builder();
-        final ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
-        final ImmutableSet.Builder<org.spongepowered.api.data.value.Value.Immutable<?>> valueBuilder = ImmutableSet.builder();
         final DataManipulator.Mutable customData = ((SpongeDataHolderBridge) itemStack).bridge$getManipulator();
-        builder.add(customData.asImmutable());
-        keyBuilder.addAll(customData.getKeys());
-        valueBuilder.addAll(customData.getValues());
+        this.manipulators = ImmutableList.of(customData.asImmutable());
         this.damageValue = ItemStackUtil.toNative(itemStack).getDamageValue();
-        this.manipulators = builder.build();
         this.privateStack = itemStack.copy();
-        this.keys = keyBuilder.build();
-        this.values = valueBuilder.build();
 
+        // The private stack is never modified, so its tag can be shared unless legacy data has to be filtered out
         @Nullable CompoundTag compound = ItemStackUtil.toNative(this.privateStack).getTag();
-        if (compound != null) {
+        if (compound != null && (compound.contains(Constants.Forge.FORGE_DATA) || compound.contains(Constants.Sponge.Data.V2.SPONGE_DATA))) {
             compound = compound.copy();
-        }
-        if (compound != null) {
             if (compound.contains(Constants.Sponge.Data.V2.SPONGE_DATA)) {
                 final CompoundTag spongeCompound = compound.getCompound(Constants.Sponge.Data.V2.SPONGE_DATA);
                 if (spongeCompound.contains(Constants.Sponge.Data.V2.CUSTOM_MANIPULATOR_TAG_LIST)) {
@@ -118,11 +146,9 @@ public SpongeItemStackSnapshot(final ItemStack itemStack) {
                 }
             }
             Constants.NBT.filterSpongeCustomData(compound);
-            if (!compound.isEmpty()) {
-                this.compound = compound;
-            } else {
-                this.compound = null;
-            }
+        }
+        if (compound != null && !compound.isEmpty()) {
+            this.compound = compound;
         } else {
             this.compound = null;
         }
@@ -136,15 +162,9 @@ public SpongeItemStackSnapshot(final ItemType itemType,
         this.quantity = quantity;
         this.manipulators = checkNotNull(manipulators);
         this.privateStack = ItemStackUtil.fromNative(new net.minecraft.world.item.ItemStack((Item) this.itemType, this.quantity));
-        final ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
-        final ImmutableSet.Builder<org.spongepowered.api.data.value.Value.Immutable<?>> valueBuilder = ImmutableSet.builder();
         for (final DataManipulator.Immutable manipulator : this.manipulators) {
             this.privateStack.copyFrom(manipulator);
-            keyBuilder.addAll(manipulator.getKeys());
-            valueBuilder.addAll(manipulator.getValues());
         }
-        this.keys = keyBuilder.build();
-        this.values = valueBuilder.build();
         this.compound = compound == null ? null : compound.copy();
         this.damageValue = 0;
     }
@@ -250,11 +270,21 @@ public ItemStackSnapshot copy() {
 
     @Override
     public Set<Key<?>> getKeys() {
+        if (this.keys == null) {
+            final ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
+            this.manipulators.forEach(manipulator -> keyBuilder.addAll(manipulator.getKeys()));
+            this.keys = keyBuilder.build();
+        }
         return this.keys;
     }
 
     @Override
     public Set<org.spongepowered.api.data.value.Value.Immutable<?>> getValues() {
+        if (this.values == null) {
+            final ImmutableSet.Builder<org.spongepowered.api.data.value.Value.Immutable<?>> valueBuilder = ImmutableSet.builder();
+            this.manipulators.forEach(manipulator -> valueBuilder.addAll(manipulator.getValues()));
+            this.values = valueBuilder.build();
+        }
         return this.values;
     }
 
@@ -279,17 +309,6 @@ public Optional<CompoundTag> getCompound() {
         return Optional.empty();
     }
 
-
-    public Optional<UUID> getCreator() {
-        return Optional.ofNullable(this.creatorUniqueId);
-    }
-
-    public void setCreator(final @Nullable UUID uuid) {
-        if (uuid != null) {
-            this.creatorUniqueId = uuid;
-        }
-    }
-
     @Override
     public ItemStackSnapshot withRawData(DataView container) throws InvalidDataException {
         final ItemStack copy = this.privateStack.copy();
@@ -332,13 +351,12 @@ public boolean equals(final Object o) {
         return this.quantity == that.quantity &&
                this.damageValue == that.damageValue &&
                Objects.equal(this.itemType, that.itemType) &&
-               Objects.equal(this.compound, that.compound) &&
-               Objects.equal(this.creatorUniqueId, that.creatorUniqueId);
+               Objects.equal(this.compound, that.compound);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.itemType, this.quantity, this.damageValue, this.compound, this.creatorUniqueId);
+        return Objects.hashCode(this.itemType, this.quantity, this.damageValue, this.compound);
     }
 
     @Override
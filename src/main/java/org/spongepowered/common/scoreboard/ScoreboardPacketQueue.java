@@ -0,0 +1,363 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
+import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
+import net.minecraft.server.ServerScoreboard;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetDisplayObjectivePacketAccessor;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetObjectivePacketAccessor;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetPlayerTeamPacketAccessor;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetScorePacketAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Accumulates the packets a scoreboard would send to its viewers during a
+ * tick and sends the minimal set once the tick has ended.
+ *
+ * <p>Packets that only describe the latest value of something (a score, the
+ * objective shown in a display slot, the display properties of an objective
+ * or team) replace any still pending packet for the same thing. Structural
+ * packets (adding or removing objectives and teams, team membership) are kept
+ * in order. When flushing, score values and display slots that are identical
+ * to what viewers were last sent are skipped.</p>
+ *
+ * <p>Whether packets are queued at all is only re-evaluated at the end of a
+ * tick. While disabled, scoreboards send their packets directly and do not
+ * touch their queue, so the queue forgets what viewers were last sent when
+ * it is enabled again.</p>
+ */
+public final class ScoreboardPacketQueue {
+
+    private static final int DISPLAY_SLOTS = 19;
+
+    private static final List<ScoreboardPacketQueue> DIRTY_QUEUES = new ArrayList<>();
+    private static boolean enabled;
+    private static int enabledGeneration;
+    private static long packetsSaved;
+
+    private final Consumer<Packet<?>> broadcaster;
+    private final IntSupplier viewers;
+    private final Function<Packet<?>, Update> describer;
+    private final List<@Nullable Packet<?>> pending = new ArrayList<>();
+    private final List<@Nullable Update> pendingUpdates = new ArrayList<>();
+    private final Map<Key, Integer> pendingIndex = new HashMap<>();
+    private final Map<String, Map<String, Integer>> flushedScores = new HashMap<>();
+    private final @Nullable String[] flushedDisplaySlots = new String[ScoreboardPacketQueue.DISPLAY_SLOTS];
+    private int generation = ScoreboardPacketQueue.enabledGeneration;
+    private boolean dirty;
+
+    /**
+     * Creates a queue sending its packets through the given broadcaster.
+     *
+     * @param broadcaster Sends a packet to every current viewer
+     * @param viewers Gets the number of current viewers
+     */
+    public ScoreboardPacketQueue(final Consumer<Packet<?>> broadcaster, final IntSupplier viewers) {
+        this(broadcaster, viewers, ScoreboardPacketQueue::describe);
+    }
+
+    ScoreboardPacketQueue(final Consumer<Packet<?>> broadcaster, final IntSupplier viewers, final Function<Packet<?>, Update> describer) {
+        this.broadcaster = broadcaster;
+        this.viewers = viewers;
+        this.describer = describer;
+    }
+
+    /**
+     * Gets whether scoreboard packets are currently queued until the end of
+     * the tick.
+     *
+     * @return Whether packets should be enqueued
+     */
+    public static boolean isEnabled() {
+        return ScoreboardPacketQueue.enabled;
+    }
+
+    /**
+     * Gets the number of packets that were not sent to players, summed over
+     * every viewer, since the server started.
+     *
+     * @return The number of packets saved
+     */
+    public static long packetsSaved() {
+        return ScoreboardPacketQueue.packetsSaved;
+    }
+
+    /**
+     * Flushes every scoreboard that had packets queued during this tick and
+     * picks up any change to whether packets are queued.
+     */
+    public static void flushAll() {
+        if (!ScoreboardPacketQueue.DIRTY_QUEUES.isEmpty()) {
+            for (final ScoreboardPacketQueue queue : ScoreboardPacketQueue.DIRTY_QUEUES) {
+                queue.dirty = false;
+                queue.flush();
+            }
+            ScoreboardPacketQueue.DIRTY_QUEUES.clear();
+        }
+        final boolean enabled = SpongeConfigs.getCommon().get().optimizations.coalesceScoreboardPackets;
+        if (enabled && !ScoreboardPacketQueue.enabled) {
+            // Packets were sent around the queues, what they last flushed may be stale
+            ScoreboardPacketQueue.enabledGeneration++;
+        }
+        ScoreboardPacketQueue.enabled = enabled;
+    }
+
+    public void enqueue(final Packet<?> packet) {
+        if (this.generation != ScoreboardPacketQueue.enabledGeneration) {
+            this.generation = ScoreboardPacketQueue.enabledGeneration;
+            this.invalidate();
+        }
+        final Update update = this.describer.apply(packet);
+        final @Nullable Key key = ScoreboardPacketQueue.keyOf(update);
+        if (key != null) {
+            final @Nullable Integer previous = this.pendingIndex.put(key, this.pending.size());
+            if (previous != null) {
+                this.pending.set(previous, null);
+                this.pendingUpdates.set(previous, null);
+            }
+        }
+        this.pending.add(packet);
+        this.pendingUpdates.add(update);
+        if (!this.dirty) {
+            this.dirty = true;
+            ScoreboardPacketQueue.DIRTY_QUEUES.add(this);
+        }
+    }
+
+    /**
+     * Sends all pending packets to the current viewers. This must be called
+     * before the set of viewers changes so that new viewers are not sent
+     * updates for state they never received, and so that leaving viewers are
+     * fully up to date before their scoreboard is torn down.
+     */
+    public void flush() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        int sent = 0;
+        for (int i = 0; i < this.pending.size(); i++) {
+            final @Nullable Packet<?> packet = this.pending.get(i);
+            if (packet != null && this.record(this.pendingUpdates.get(i))) {
+                this.broadcaster.accept(packet);
+                sent++;
+            }
+        }
+        ScoreboardPacketQueue.packetsSaved += (long) (this.pending.size() - sent) * this.viewers.getAsInt();
+        this.pending.clear();
+        this.pendingUpdates.clear();
+        this.pendingIndex.clear();
+    }
+
+    /**
+     * Forgets what viewers were last sent, to be used when packets were sent
+     * without going through this queue.
+     */
+    public void invalidate() {
+        if (!this.flushedScores.isEmpty()) {
+            this.flushedScores.clear();
+        }
+        Arrays.fill(this.flushedDisplaySlots, null);
+    }
+
+    private boolean record(final Update update) {
+        switch (update.type) {
+            case Update.SCORE_CHANGE: {
+                final @Nullable Integer previous = this.flushedScores.computeIfAbsent(update.name, k -> new HashMap<>())
+                    .put(update.owner, update.value);
+                return previous == null || previous != update.value;
+            }
+            case Update.SCORE_REMOVE:
+                if (update.name == null || update.name.isEmpty()) {
+                    for (final Map<String, Integer> scores : this.flushedScores.values()) {
+                        scores.remove(update.owner);
+                    }
+                } else {
+                    final @Nullable Map<String, Integer> scores = this.flushedScores.get(update.name);
+                    if (scores != null) {
+                        scores.remove(update.owner);
+                    }
+                }
+                return true;
+            case Update.DISPLAY_SLOT:
+                if (update.value < 0 || update.value >= ScoreboardPacketQueue.DISPLAY_SLOTS) {
+                    return true;
+                }
+                if (Objects.equals(this.flushedDisplaySlots[update.value], update.name)) {
+                    return false;
+                }
+                this.flushedDisplaySlots[update.value] = update.name;
+                return true;
+            case Update.OBJECTIVE_ADD:
+                this.flushedScores.remove(update.name);
+                return true;
+            case Update.OBJECTIVE_REMOVE:
+                this.flushedScores.remove(update.name);
+                // The client clears any display slot showing a removed objective
+                for (int i = 0; i < this.flushedDisplaySlots.length; i++) {
+                    if (Objects.equals(update.name, this.flushedDisplaySlots[i])) {
+                        this.flushedDisplaySlots[i] = null;
+                    }
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private static @Nullable Key keyOf(final Update update) {
+        switch (update.type) {
+            case Update.SCORE_CHANGE:
+            case Update.SCORE_REMOVE:
+                return new Key(Key.SCORE, update.name, update.owner);
+            case Update.DISPLAY_SLOT:
+                return new Key(Key.DISPLAY_SLOT, update.value, null);
+            case Update.OBJECTIVE_CHANGE:
+                return new Key(Key.OBJECTIVE, update.name, null);
+            case Update.TEAM_CHANGE:
+                return new Key(Key.TEAM, update.name, null);
+            default:
+                return null;
+        }
+    }
+
+    private static Update describe(final Packet<?> packet) {
+        if (packet instanceof ClientboundSetScorePacket) {
+            final ClientboundSetScorePacketAccessor accessor = (ClientboundSetScorePacketAccessor) packet;
+            final int type = accessor.accessor$method() == ServerScoreboard.Method.CHANGE ? Update.SCORE_CHANGE : Update.SCORE_REMOVE;
+            return new Update(type, accessor.accessor$objectiveName(), accessor.accessor$owner(), accessor.accessor$score());
+        }
+        if (packet instanceof ClientboundSetDisplayObjectivePacket) {
+            final ClientboundSetDisplayObjectivePacketAccessor accessor = (ClientboundSetDisplayObjectivePacketAccessor) packet;
+            return new Update(Update.DISPLAY_SLOT, accessor.accessor$objectiveName(), null, accessor.accessor$slot());
+        }
+        if (packet instanceof ClientboundSetObjectivePacket) {
+            final ClientboundSetObjectivePacketAccessor accessor = (ClientboundSetObjectivePacketAccessor) packet;
+            switch (accessor.accessor$method()) {
+                case Constants.Scoreboards.OBJECTIVE_PACKET_ADD:
+                    return new Update(Update.OBJECTIVE_ADD, accessor.accessor$objectiveName(), null, 0);
+                case Constants.Scoreboards.OBJECTIVE_PACKET_REMOVE:
+                    return new Update(Update.OBJECTIVE_REMOVE, accessor.accessor$objectiveName(), null, 0);
+                case Constants.Scoreboards.OBJECTIVE_PACKET_CHANGE:
+                    return new Update(Update.OBJECTIVE_CHANGE, accessor.accessor$objectiveName(), null, 0);
+                default:
+                    return Update.OTHER;
+            }
+        }
+        if (packet instanceof ClientboundSetPlayerTeamPacket) {
+            final ClientboundSetPlayerTeamPacketAccessor accessor = (ClientboundSetPlayerTeamPacketAccessor) packet;
+            if (accessor.accessor$method() == Constants.Scoreboards.TEAM_PACKET_CHANGE) {
+                return new Update(Update.TEAM_CHANGE, accessor.accessor$name(), null, 0);
+            }
+        }
+        return Update.OTHER;
+    }
+
+    /**
+     * What a scoreboard packet changes on the client, as far as coalescing
+     * is concerned.
+     */
+    static final class Update {
+
+        static final int OTHER_TYPE = 0;
+        static final int SCORE_CHANGE = 1;
+        static final int SCORE_REMOVE = 2;
+        static final int DISPLAY_SLOT = 3;
+        static final int OBJECTIVE_ADD = 4;
+        static final int OBJECTIVE_REMOVE = 5;
+        static final int OBJECTIVE_CHANGE = 6;
+        static final int TEAM_CHANGE = 7;
+
+        static final Update OTHER = new Update(Update.OTHER_TYPE, null, null, 0);
+
+        final int type;
+        final @Nullable String name;
+        final @Nullable String owner;
+        final int value;
+
+        /**
+         * @param type The kind of change
+         * @param name The objective or team name
+         * @param owner The score holder, for scores
+         * @param value The score, or the display slot
+         */
+        Update(final int type, final @Nullable String name, final @Nullable String owner, final int value) {
+            this.type = type;
+            this.name = name;
+            this.owner = owner;
+            this.value = value;
+        }
+    }
+
+    private static final class Key {
+
+        static final int SCORE = 0;
+        static final int DISPLAY_SLOT = 1;
+        static final int OBJECTIVE = 2;
+        static final int TEAM = 3;
+
+        private final int type;
+        private final @Nullable Object target;
+        private final @Nullable String owner;
+
+        Key(final int type, final @Nullable Object target, final @Nullable String owner) {
+            this.type = type;
+            this.target = target;
+            this.owner = owner;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return this.type == other.type && Objects.equals(this.target, other.target) && Objects.equals(this.owner, other.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.target, this.owner);
+        }
+    }
+}
@@ -1306,6 +1306,8 @@ public static final class Scoreboards {
 
         public static final int OBJECTIVE_PACKET_ADD = 0;
         public static final int OBJECTIVE_PACKET_REMOVE = 1;
+        public static final int OBJECTIVE_PACKET_CHANGE = 2;
+        public static final int TEAM_PACKET_CHANGE = 2;
         public static final int SCORE_NAME_LENGTH = 40;
     }
 
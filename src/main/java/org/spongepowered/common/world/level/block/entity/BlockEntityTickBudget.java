@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.block.entity;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.optimization.BlockEntityTickBudgetBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.BlockEntityActivationCategory;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Spreads block entity ticking of a world over multiple ticks once it takes
+ * longer than the configured tick budget.
+ *
+ * <p>The average tick time of each block entity type is measured while
+ * ticking. At the start of each tick, the budget is handed out from the
+ * highest priority down, based on what all block entities of a priority took
+ * during the previous tick. Priorities that do not fully fit only tick a
+ * fraction of their block entities, which take turns by accumulating that
+ * fraction as credit until they have enough to tick.</p>
+ */
+public final class BlockEntityTickBudget {
+
+    private static final double SAMPLE_WEIGHT = 0.05; // weight of a new sample in the average tick time
+    private static final int ALWAYS_TICK = Integer.MAX_VALUE; // block entities of mods that opted out
+
+    private final Level level;
+    private final Map<BlockEntityType<?>, TypeCost> costs = new IdentityHashMap<>();
+    private final Map<Integer, Float> fractions = new HashMap<>();
+    private Map<Integer, Double> demand = new TreeMap<>(Comparator.reverseOrder());
+    private Map<Integer, Double> previousDemand = new TreeMap<>(Comparator.reverseOrder());
+    private boolean enabled;
+    private @Nullable TypeCost ticking;
+    private long tickingSince;
+
+    public BlockEntityTickBudget(final Level level) {
+        this.level = level;
+    }
+
+    public void start() {
+        final BlockEntityActivationCategory config = SpongeGameConfigs.getForWorld(this.level).get().blockEntityActivation;
+        this.fractions.clear();
+        this.enabled = config.tickBudget > 0;
+        if (!this.enabled) {
+            this.costs.clear(); // pick up changed priorities once enabled again
+            this.previousDemand.clear();
+            return;
+        }
+
+        final Map<Integer, Double> lastDemand = this.demand;
+        this.demand = this.previousDemand;
+        this.demand.clear();
+        this.previousDemand = lastDemand;
+
+        final float minimumFraction = 1.0f / Math.max(1, config.maxDeferredTicks);
+        double remaining = config.tickBudget * 1_000_000;
+        for (final Map.Entry<Integer, Double> entry : lastDemand.entrySet()) {
+            final double cost = entry.getValue();
+            final float fraction;
+            if (cost <= remaining || entry.getKey() == BlockEntityTickBudget.ALWAYS_TICK) {
+                fraction = 1.0f;
+            } else {
+                fraction = (float) Math.max(minimumFraction, remaining / cost);
+            }
+            remaining = Math.max(0, remaining - cost * fraction);
+            this.fractions.put(entry.getKey(), fraction);
+        }
+    }
+
+    public boolean shouldTick(final BlockEntity blockEntity) {
+        if (!this.enabled) {
+            return true;
+        }
+        final long now = System.nanoTime();
+        this.finishTicking(now);
+
+        final TypeCost cost = this.costs.computeIfAbsent(blockEntity.getType(), this::createCost);
+        this.demand.merge(cost.priority, cost.averageNanos, Double::sum);
+
+        final @Nullable Float fraction = this.fractions.get(cost.priority);
+        if (fraction != null && fraction < 1.0f) {
+            final BlockEntityTickBudgetBridge budgetBridge = (BlockEntityTickBudgetBridge) blockEntity;
+            final float credit = budgetBridge.tickBudgetBridge$getTickCredit() + fraction;
+            if (credit < 1.0f) {
+                budgetBridge.tickBudgetBridge$setTickCredit(credit);
+                return false;
+            }
+            budgetBridge.tickBudgetBridge$setTickCredit(credit - 1.0f);
+        }
+        this.ticking = cost;
+        this.tickingSince = now;
+        return true;
+    }
+
+    public void finish() {
+        if (this.enabled) {
+            this.finishTicking(System.nanoTime());
+        }
+    }
+
+    private void finishTicking(final long now) {
+        if (this.ticking != null) {
+            this.ticking.averageNanos += (now - this.tickingSince - this.ticking.averageNanos) * BlockEntityTickBudget.SAMPLE_WEIGHT;
+            this.ticking = null;
+        }
+    }
+
+    private TypeCost createCost(final BlockEntityType<?> type) {
+        final BlockEntityActivationCategory config = SpongeGameConfigs.getForWorld(this.level).get().blockEntityActivation;
+        final @Nullable ResourceLocation key = Registry.BLOCK_ENTITY_TYPE.getKey(type);
+        int priority = config.defaultPriority;
+        if (key != null) {
+            final BlockEntityActivationCategory.MobSubCategory modConfig = config.mods.get(key.getNamespace());
+            if (modConfig != null) {
+                if (!modConfig.enabled) {
+                    return new TypeCost(BlockEntityTickBudget.ALWAYS_TICK);
+                }
+                if (modConfig.defaultPriority != null) {
+                    priority = modConfig.defaultPriority;
+                }
+                priority = modConfig.priorities.getOrDefault(key.getPath(), priority);
+            }
+        }
+        return new TypeCost(priority);
+    }
+
+    private static final class TypeCost {
+
+        final int priority;
+        double averageNanos;
+
+        TypeCost(final int priority) {
+            this.priority = priority;
+        }
+    }
+}
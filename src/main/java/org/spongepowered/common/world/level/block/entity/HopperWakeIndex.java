@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.block.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import org.spongepowered.common.bridge.optimization.EventDrivenHopperBridge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks which sleeping hoppers are interested in which block positions of
+ * a world, so that container changes and moving entities only need a hash
+ * lookup to find the hoppers they should wake.
+ */
+public final class HopperWakeIndex {
+
+    private final Long2ObjectMap<List<EventDrivenHopperBridge>> watchers = new Long2ObjectOpenHashMap<>();
+
+    public boolean isEmpty() {
+        return this.watchers.isEmpty();
+    }
+
+    public void watch(final long pos, final EventDrivenHopperBridge hopper) {
+        List<EventDrivenHopperBridge> hoppers = this.watchers.get(pos);
+        if (hoppers == null) {
+            hoppers = new ArrayList<>(1);
+            this.watchers.put(pos, hoppers);
+        }
+        hoppers.add(hopper);
+    }
+
+    public void unwatch(final long pos, final EventDrivenHopperBridge hopper) {
+        final List<EventDrivenHopperBridge> hoppers = this.watchers.get(pos);
+        if (hoppers != null && hoppers.remove(hopper) && hoppers.isEmpty()) {
+            this.watchers.remove(pos);
+        }
+    }
+
+    public void wake(final BlockPos pos) {
+        this.wake(pos.asLong());
+    }
+
+    public void wake(final long pos) {
+        // Removed up front, waking a hopper unwatches all of its positions
+        final List<EventDrivenHopperBridge> hoppers = this.watchers.remove(pos);
+        if (hoppers == null) {
+            return;
+        }
+        for (final EventDrivenHopperBridge hopper : hoppers) {
+            hopper.hopperBridge$wake();
+        }
+    }
+
+    /**
+     * Wakes every hopper watching a block position the given box touches.
+     */
+    public void wakeWithin(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+        if (this.watchers.isEmpty()) {
+            return;
+        }
+        final int x1 = Mth.floor(maxX);
+        final int y1 = Mth.floor(maxY);
+        final int z1 = Mth.floor(maxZ);
+        for (int x = Mth.floor(minX); x <= x1; x++) {
+            for (int y = Mth.floor(minY); y <= y1; y++) {
+                for (int z = Mth.floor(minZ); z <= z1; z++) {
+                    this.wake(BlockPos.asLong(x, y, z));
+                }
+            }
+        }
+    }
+
+}
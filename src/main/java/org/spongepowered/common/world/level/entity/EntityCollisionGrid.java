@@ -0,0 +1,200 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.common.bridge.entitycollision.CollisionGridEntityBridge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A spatial hash of the entities of a world that can be pushed, used as the
+ * broad-phase of entity pushing. Entities are bucketed by the cell their
+ * position falls in. The grid is rebuilt on the first lookup of a tick and
+ * kept up to date as entities move during that tick; entities added later
+ * in the tick are picked up by the next rebuild.
+ */
+public final class EntityCollisionGrid {
+
+    // Cells are two blocks wide along every axis
+    private static final int CELL_SHIFT = 1;
+
+    private final Long2ObjectMap<List<Entity>> cells = new Long2ObjectOpenHashMap<>();
+    private long build = Long.MIN_VALUE;
+    // How far the bounding box of any indexed entity reaches from its position
+    private double horizontalReach;
+    private double upwardReach;
+    private double downwardReach;
+
+    public boolean isBuiltFor(final long build) {
+        return this.build == build;
+    }
+
+    public void rebuild(final Iterable<Entity> entities, final long build) {
+        this.cells.clear();
+        this.build = build;
+        this.horizontalReach = 0;
+        this.upwardReach = 0;
+        this.downwardReach = 0;
+        for (final Entity entity : entities) {
+            if (!EntityCollisionGrid.isIndexed(entity)) {
+                continue;
+            }
+            final CollisionGridEntityBridge bridge = (CollisionGridEntityBridge) entity;
+            Entry entry = bridge.collision$getGridEntry();
+            if (entry == null) {
+                entry = new Entry();
+                bridge.collision$setGridEntry(entry);
+            }
+            entry.grid = this;
+            entry.build = build;
+            final double x = entity.getX();
+            final double y = entity.getY();
+            final double z = entity.getZ();
+            this.insert(entity, entry, EntityCollisionGrid.cellKey(x, y, z));
+            final AABB box = entity.getBoundingBox();
+            this.extendReach(Math.max(Math.max(x - box.minX, box.maxX - x), Math.max(z - box.minZ, box.maxZ - z)), box.maxY - y, y - box.minY);
+        }
+    }
+
+    public void clear() {
+        this.cells.clear();
+        this.build = Long.MIN_VALUE;
+    }
+
+    /**
+     * Visits the indexed entities whose bounding box intersects the given
+     * box.
+     */
+    public void forEachIntersecting(final AABB box, final Consumer<Entity> visitor) {
+        final int minX = EntityCollisionGrid.cellCoord(box.minX - this.horizontalReach);
+        final int minY = EntityCollisionGrid.cellCoord(box.minY - this.upwardReach);
+        final int minZ = EntityCollisionGrid.cellCoord(box.minZ - this.horizontalReach);
+        final int maxX = EntityCollisionGrid.cellCoord(box.maxX + this.horizontalReach);
+        final int maxY = EntityCollisionGrid.cellCoord(box.maxY + this.downwardReach);
+        final int maxZ = EntityCollisionGrid.cellCoord(box.maxZ + this.horizontalReach);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    final List<Entity> entities = this.cells.get(BlockPos.asLong(x, y, z));
+                    if (entities == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < entities.size(); i++) {
+                        final Entity entity = entities.get(i);
+                        if (!entity.removed && entity.getBoundingBox().intersects(box)) {
+                            visitor.accept(entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public static void onMove(final Entity entity, final Entry entry, final double x, final double y, final double z) {
+        final EntityCollisionGrid grid = entry.grid;
+        if (entry.build != grid.build) {
+            return;
+        }
+        final long cell = EntityCollisionGrid.cellKey(x, y, z);
+        if (cell != entry.cell) {
+            grid.remove(entry);
+            grid.insert(entity, entry, cell);
+        }
+        // The bounding box may not have moved yet, the dimensions are what it will be built from
+        final double halfWidth = entity.getBbWidth() / 2.0D;
+        grid.extendReach(halfWidth, entity.getBbHeight(), 0);
+    }
+
+    private static boolean isIndexed(final Entity entity) {
+        // None of these can be pushed and they are often numerous
+        return !entity.removed && !(entity instanceof ItemEntity || entity instanceof ExperienceOrb || entity instanceof Projectile);
+    }
+
+    private void insert(final Entity entity, final Entry entry, final long cell) {
+        List<Entity> entities = this.cells.get(cell);
+        if (entities == null) {
+            entities = new ArrayList<>();
+            this.cells.put(cell, entities);
+        }
+        entry.cell = cell;
+        entry.slot = entities.size();
+        entities.add(entity);
+    }
+
+    private void remove(final Entry entry) {
+        final List<Entity> entities = this.cells.get(entry.cell);
+        final int last = entities.size() - 1;
+        final Entity moved = entities.remove(last);
+        if (entry.slot != last) {
+            // Swap the last entity into the vacated slot so removal stays constant time
+            entities.set(entry.slot, moved);
+            ((CollisionGridEntityBridge) moved).collision$getGridEntry().slot = entry.slot;
+        }
+        if (entities.isEmpty()) {
+            this.cells.remove(entry.cell);
+        }
+    }
+
+    private void extendReach(final double horizontal, final double upward, final double downward) {
+        this.horizontalReach = Math.max(this.horizontalReach, horizontal);
+        this.upwardReach = Math.max(this.upwardReach, upward);
+        this.downwardReach = Math.max(this.downwardReach, downward);
+    }
+
+    private static long cellKey(final double x, final double y, final double z) {
+        return BlockPos.asLong(EntityCollisionGrid.cellCoord(x), EntityCollisionGrid.cellCoord(y), EntityCollisionGrid.cellCoord(z));
+    }
+
+    private static int cellCoord(final double coordinate) {
+        return Mth.floor(coordinate) >> EntityCollisionGrid.CELL_SHIFT;
+    }
+
+    /**
+     * Where an entity is stored in the grid. Kept on the entity so moving it
+     * needs no lookup, and reused between rebuilds.
+     */
+    public static final class Entry {
+
+        EntityCollisionGrid grid;
+        long build;
+        long cell;
+        int slot;
+
+        Entry() {
+        }
+    }
+
+}
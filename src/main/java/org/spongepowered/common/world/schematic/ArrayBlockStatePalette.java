@@ -0,0 +1,302 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import net.minecraft.world.level.block.Block;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A block state palette backed by plain arrays. Local ids resolve to states
+ * through an array lookup, and states resolve to local ids through a table
+ * indexed by the vanilla block state registry id, so neither direction boxes
+ * or builds {@link PaletteReference}s the way {@link MutableBimapPalette} does.
+ * The table only grows as far as the highest registry id assigned so far.
+ */
+public final class ArrayBlockStatePalette implements Palette.Mutable<BlockState, BlockType> {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 64;
+    private static final int[] NO_IDS = new int[0];
+
+    private final PaletteType<BlockState, BlockType> paletteType;
+    private final Registry<BlockType> registry;
+    private final ToIntFunction<BlockState> globalIds;
+    /** Local id to state, {@code null} for unassigned ids */
+    private BlockState[] states;
+    /** Global block state id to the lowest local id of the state plus one, {@code 0} for unassigned states */
+    private int[] localIds = ArrayBlockStatePalette.NO_IDS;
+    private int maxId = 0;
+    private int nextFree = 0;
+
+    public ArrayBlockStatePalette(final PaletteType<BlockState, BlockType> paletteType, final Registry<BlockType> registry) {
+        this(paletteType, registry, ArrayBlockStatePalette.DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public ArrayBlockStatePalette(final PaletteType<BlockState, BlockType> paletteType, final Registry<BlockType> registry,
+        final int expectedSize
+    ) {
+        this(paletteType, registry, expectedSize, ArrayBlockStatePalette::registryId);
+    }
+
+    ArrayBlockStatePalette(final PaletteType<BlockState, BlockType> paletteType, final Registry<BlockType> registry,
+        final int expectedSize, final ToIntFunction<BlockState> globalIds
+    ) {
+        this.paletteType = paletteType;
+        this.registry = registry;
+        this.globalIds = globalIds;
+        this.states = new BlockState[Math.max(1, expectedSize)];
+    }
+
+    private ArrayBlockStatePalette(final ArrayBlockStatePalette original) {
+        this.paletteType = original.paletteType;
+        this.registry = original.registry;
+        this.globalIds = original.globalIds;
+        this.states = original.states.clone();
+        this.localIds = original.localIds.clone();
+        this.maxId = original.maxId;
+        this.nextFree = original.nextFree;
+    }
+
+    private static int registryId(final BlockState state) {
+        return Block.BLOCK_STATE_REGISTRY.getId((net.minecraft.world.level.block.state.BlockState) state);
+    }
+
+    private int globalId(final BlockState state) {
+        final int id = this.globalIds.applyAsInt(state);
+        if (id < 0) {
+            throw new IllegalArgumentException("BlockState is not registered: " + state);
+        }
+        return id;
+    }
+
+    @Override
+    public PaletteType<BlockState, BlockType> type() {
+        return this.paletteType;
+    }
+
+    @Override
+    public int highestId() {
+        return this.maxId;
+    }
+
+    @Override
+    public OptionalInt get(final BlockState state) {
+        final int global = this.globalId(state);
+        if (global >= this.localIds.length || this.localIds[global] == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(this.localIds[global] - 1);
+    }
+
+    @Override
+    public int orAssign(final BlockState state) {
+        final int global = this.globalId(state);
+        if (global < this.localIds.length) {
+            final int local = this.localIds[global];
+            if (local != 0) {
+                return local - 1;
+            }
+        }
+        return this.assign(state, this.nextFree);
+    }
+
+    /**
+     * Assigns the given state to a specific id, replacing whatever state
+     * previously occupied that id. A state may be assigned to several ids,
+     * in which case lookups by state resolve to the lowest of them.
+     *
+     * @param state The state
+     * @param id The local id
+     * @return The id
+     */
+    public int assign(final BlockState state, final int id) {
+        final int global = this.globalId(state);
+        if (id >= this.states.length) {
+            this.states = Arrays.copyOf(this.states, Math.max(id + 1, this.states.length << 1));
+        }
+        if (global >= this.localIds.length) {
+            this.localIds = Arrays.copyOf(this.localIds, Math.max(global + 1, this.localIds.length + (this.localIds.length >> 1)));
+        }
+        final @Nullable BlockState previous = this.states[id];
+        this.states[id] = state;
+        if (previous != null && previous != state) {
+            this.relink(previous, id);
+        }
+        if (this.localIds[global] == 0 || this.localIds[global] > id + 1) {
+            this.localIds[global] = id + 1;
+        }
+        if (this.maxId < id) {
+            this.maxId = id;
+        }
+        if (id == this.nextFree) {
+            this.advanceNextFree();
+        }
+        return id;
+    }
+
+    /*
+     * The state was replaced at the given id, if that was the id lookups
+     * resolved to, point them to the next id still holding the state.
+     */
+    private void relink(final BlockState state, final int id) {
+        final int global = this.globalId(state);
+        if (this.localIds[global] != id + 1) {
+            return;
+        }
+        this.localIds[global] = 0;
+        for (int other = id + 1; other <= this.maxId; other++) {
+            if (this.states[other] == state) {
+                this.localIds[global] = other + 1;
+                return;
+            }
+        }
+    }
+
+    private void advanceNextFree() {
+        while (this.nextFree < this.states.length && this.states[this.nextFree] != null) {
+            this.nextFree++;
+        }
+    }
+
+    @Override
+    public Optional<PaletteReference<BlockState, BlockType>> get(final int id) {
+        final @Nullable BlockState state = this.state(id);
+        if (state == null) {
+            return Optional.empty();
+        }
+        return Optional.of(MutableBimapPalette.createPaletteReference(state, this.paletteType, this.registry));
+    }
+
+    @Override
+    public Optional<BlockState> get(final int id, final RegistryHolder holder) {
+        return Optional.ofNullable(this.state(id));
+    }
+
+    /**
+     * Gets the state assigned to the given id without going through an
+     * {@link Optional}.
+     *
+     * @param id The local id
+     * @return The state, or {@code null} if the id is unassigned
+     */
+    public @Nullable BlockState state(final int id) {
+        if (id < 0 || id >= this.states.length) {
+            return null;
+        }
+        return this.states[id];
+    }
+
+    @Override
+    public boolean remove(final BlockState state) {
+        final int global = this.globalId(state);
+        if (global >= this.localIds.length || this.localIds[global] == 0) {
+            return false;
+        }
+        final int first = this.localIds[global] - 1;
+        this.localIds[global] = 0;
+        // The lookup table only knows the lowest id, every id above may hold the state as well
+        for (int id = first; id <= this.maxId; id++) {
+            if (this.states[id] == state) {
+                this.states[id] = null;
+            }
+        }
+        if (first < this.nextFree) {
+            this.nextFree = first;
+        }
+        while (this.maxId > 0 && this.states[this.maxId] == null) {
+            this.maxId--;
+        }
+        return true;
+    }
+
+    @Override
+    public Stream<BlockState> stream() {
+        return Arrays.stream(this.states, 0, this.maxId + 1)
+            .filter(Objects::nonNull)
+            .distinct();
+    }
+
+    @Override
+    public Stream<Map.Entry<BlockState, Integer>> streamWithIds() {
+        final BlockState[] states = this.states.clone();
+        return IntStream.rangeClosed(0, this.maxId)
+            .filter(id -> states[id] != null)
+            .mapToObj(id -> new AbstractMap.SimpleEntry<>(states[id], id));
+    }
+
+    @Override
+    public Immutable<BlockState, BlockType> asImmutable() {
+        return new ImmutableArrayBlockStatePalette(this.copy());
+    }
+
+    public ArrayBlockStatePalette copy() {
+        return new ArrayBlockStatePalette(this);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final ArrayBlockStatePalette that = (ArrayBlockStatePalette) o;
+        if (this.maxId != that.maxId || !this.paletteType.equals(that.paletteType)) {
+            return false;
+        }
+        for (int id = 0; id <= this.maxId; id++) {
+            if (this.state(id) != that.state(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(this.paletteType, this.maxId);
+        for (int id = 0; id <= this.maxId; id++) {
+            result = 31 * result + Objects.hashCode(this.states[id]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+/**
+ * An immutable view of an {@link ArrayBlockStatePalette} copy. Unlike
+ * {@link ImmutableBimapPalette}, it keeps every id of states that are
+ * assigned to several ids.
+ */
+public final class ImmutableArrayBlockStatePalette implements Palette.Immutable<BlockState, BlockType> {
+
+    private final ArrayBlockStatePalette palette;
+
+    ImmutableArrayBlockStatePalette(final ArrayBlockStatePalette palette) {
+        this.palette = palette;
+    }
+
+    @Override
+    public PaletteType<BlockState, BlockType> type() {
+        return this.palette.type();
+    }
+
+    @Override
+    public int highestId() {
+        return this.palette.highestId();
+    }
+
+    @Override
+    public OptionalInt get(final BlockState state) {
+        return this.palette.get(state);
+    }
+
+    @Override
+    public Optional<PaletteReference<BlockState, BlockType>> get(final int id) {
+        return this.palette.get(id);
+    }
+
+    @Override
+    public Optional<BlockState> get(final int id, final RegistryHolder holder) {
+        return this.palette.get(id, holder);
+    }
+
+    @Override
+    public Stream<BlockState> stream() {
+        return this.palette.stream();
+    }
+
+    @Override
+    public Stream<Map.Entry<BlockState, Integer>> streamWithIds() {
+        return this.palette.streamWithIds();
+    }
+
+    @Override
+    public Mutable<BlockState, BlockType> asMutable(final RegistryHolder holder) {
+        return this.palette.copy();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.palette.equals(((ImmutableArrayBlockStatePalette) o).palette);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.palette.hashCode();
+    }
+}
@@ -284,16 +284,15 @@ private static void deserializeBlockContainer(
         final Vector3i offset,
         final boolean needsFixers
     ) {
-        final MutableBimapPalette<BlockState, BlockType> palette;
+        final ArrayBlockStatePalette palette;
         final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
             .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
         final Set<DataQuery> paletteKeys = paletteMap.keys(false);
         // If we had a default palette_max we don't want to allocate all
         // that space for nothing so we use a sensible default instead
-        palette = new MutableBimapPalette<>(
+        palette = new ArrayBlockStatePalette(
             PaletteTypes.BLOCK_STATE_PALETTE.get(),
             Sponge.game().registry(RegistryTypes.BLOCK_TYPE),
-            RegistryTypes.BLOCK_TYPE,
             paletteKeys.size()
         );
         for (final DataQuery key : paletteKeys) {
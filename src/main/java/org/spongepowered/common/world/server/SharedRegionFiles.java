@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utilities for region files that are hard linked between worlds when a
+ * world is copied. A linked region file is shared until either world writes
+ * to it, at which point the writer receives its own private copy.
+ */
+public final class SharedRegionFiles {
+
+    private static final String REGION_FILE_EXTENSION = ".mca";
+    private static final String UNSHARE_SUFFIX = ".unshare";
+    private static final AtomicInteger LINK_GENERATION = new AtomicInteger();
+
+    public static boolean isRegionFile(final Path file) {
+        return file.getFileName().toString().endsWith(SharedRegionFiles.REGION_FILE_EXTENSION);
+    }
+
+    /**
+     * Gets if region files in the given directory can be linked and later
+     * recognized as being shared.
+     *
+     * @param directory The directory
+     * @return True if linking is supported
+     */
+    public static boolean canLink(final Path directory) {
+        try {
+            return Files.getFileStore(directory).supportsFileAttributeView("unix");
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    public static void link(final Path source, final Path target) throws IOException {
+        Files.createLink(target, source);
+        SharedRegionFiles.LINK_GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Gets a counter that changes whenever a region file is linked. Region
+     * files found not to be shared have to be checked again once it changes,
+     * as the world they belong to may have just been copied.
+     *
+     * @return The current link generation
+     */
+    public static int linkGeneration() {
+        return SharedRegionFiles.LINK_GENERATION.get();
+    }
+
+    /**
+     * Gets if the given region file is shared with another world.
+     *
+     * @param file The region file
+     * @return True if more than one link to the file exists
+     */
+    public static boolean isShared(final Path file) {
+        try {
+            return Files.exists(file) && ((Number) Files.getAttribute(file, "unix:nlink")).intValue() > 1;
+        } catch (final IOException | UnsupportedOperationException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the given shared region file with a private copy, leaving any
+     * other links to the original file untouched.
+     *
+     * @param file The region file
+     * @throws IOException If the copy could not be made
+     */
+    public static void unshare(final Path file) throws IOException {
+        final Path copy = file.resolveSibling(file.getFileName().toString() + SharedRegionFiles.UNSHARE_SUFFIX);
+        Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(copy, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private SharedRegionFiles() {
+    }
+}
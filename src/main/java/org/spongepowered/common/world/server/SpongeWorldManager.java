@@ -25,6 +25,7 @@
 package org.spongepowered.common.world.server;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -47,10 +48,12 @@
 import net.minecraft.resources.RegistryWriteOps;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.TicketType;
 import net.minecraft.server.level.progress.ChunkProgressListener;
+import net.minecraft.util.Mth;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.entity.ai.village.VillageSiege;
 import net.minecraft.world.entity.npc.CatSpawner;
@@ -83,7 +86,6 @@
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryEntry;
 import org.spongepowered.api.registry.RegistryTypes;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.world.DefaultWorldKeys;
 import org.spongepowered.api.world.WorldType;
@@ -95,9 +97,15 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.ChunkStorageAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.SectionStorageAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PrimaryLevelDataAccessor;
+import org.spongepowered.common.applaunch.config.common.WorldPoolCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
@@ -127,15 +135,20 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -145,6 +158,14 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
 
+    private final Set<ResourceKey> pendingFileOperations = ConcurrentHashMap.newKeySet();
+    private final Map<ResourceKey, SpongeWorldPool> worldPools = new HashMap<>();
+    private final Map<net.minecraft.resources.ResourceKey<Level>, Integer> spawnChunkRadii = new HashMap<>();
+    private final ExecutorService fileOperationExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-World-IO")
+            .build());
+
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
 
     public SpongeWorldManager(final MinecraftServer server) {
@@ -322,6 +343,10 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) serverWorld);
         }
 
+        if (this.pendingFileOperations.contains(key)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is being copied, moved or deleted!", key)));
+        }
+
         this.saveTemplate(template);
 
         return this.loadWorld0(registryKey, ((SpongeWorldTemplate) template).asDimension(), ((WorldGenSettings) template.generationConfig()));
@@ -339,6 +364,10 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
         }
 
+        if (this.pendingFileOperations.contains(key)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is being copied, moved or deleted!", key)));
+        }
+
         return this.loadTemplate(key).thenCompose(r -> {
             WorldTemplate loadedTemplate = r.orElse(null);
             if (loadedTemplate == null) {
@@ -579,57 +608,77 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
-        final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
-
-        if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
-            loadedWorld.save(null, true, loadedWorld.noSave);
-            loadedWorld.noSave = true;
+        if (!this.beginFileOperation(key, copyKey)) {
+            return CompletableFuture.completedFuture(false);
         }
 
+        final ServerLevel loadedWorld = this.worlds.get(registryKey);
         final boolean isDefaultWorld = DefaultWorldKeys.DEFAULT.equals(key);
+        final boolean linkRegionFiles = SpongeConfigs.getCommon().get().world.linkRegionFilesOnCopy;
 
         final Path originalDirectory = this.getDirectory(key);
         final Path copyDirectory = this.getDirectory(copyKey);
+        final Path configFile = this.getConfigFile(key);
+        final Path copiedConfigFile = this.getConfigFile(copyKey);
+        final Path dimensionTemplate = this.getDataPackFile(key);
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+        // Server data may only be read on the main thread
+        final JsonElement vanillaTemplate;
+        if (this.isVanillaWorld(key)) {
+            final LevelStem stem = this.server.getWorldData().worldGenSettings().dimensions().get(SpongeWorldManager.createStemKey(key));
+            vanillaTemplate = SpongeWorldManager.stemToJson(stem);
+        } else {
+            vanillaTemplate = null;
+        }
 
-                    // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+        if (loadedWorld != null) {
+            // A loaded world keeps saving chunks as they unload, so its files are only consistent while the server thread is held.
+            // Linked region files are un-shared by RegionFileStorage before either world writes to them again.
+            try {
+                loadedWorld.save(null, true, loadedWorld.noSave);
+                SpongeWorldManager.flushChunkStorage(loadedWorld);
+                this.copyDirectory(originalDirectory, copyDirectory, isDefaultWorld, linkRegionFiles);
+            } catch (final IOException e) {
+                this.endFileOperation(key, copyKey);
+                return FutureUtil.completedWithException(e);
+            }
+        }
 
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
+        return this.runFileOperation(() -> {
+            if (loadedWorld == null) {
+                this.copyDirectory(originalDirectory, copyDirectory, isDefaultWorld, linkRegionFiles);
+            }
 
-                    return FileVisitResult.CONTINUE;
+            Files.createDirectories(copiedConfigFile.getParent());
+            Files.copy(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+
+            final JsonElement template;
+            if (vanillaTemplate != null) {
+                template = vanillaTemplate;
+            } else {
+                try (final BufferedReader reader = Files.newBufferedReader(dimensionTemplate)) {
+                    template = new JsonParser().parse(reader);
                 }
+            }
 
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
-                    // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+            final JsonObject spongeData = template.getAsJsonObject().getAsJsonObject("#sponge");
+            spongeData.remove("unique_id");
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
+            this.writeTemplate(template, copyKey);
+            return true;
+        }, key, copyKey);
+    }
+
+    private static void flushChunkStorage(final ServerLevel world) {
+        // Chunks unloaded since the last save may still be waiting to be written, whether or not saving is disabled
+        ((ChunkStorageAccessor) world.getChunkSource().chunkMap).accessor$worker().synchronize().join();
+        ((SectionStorageAccessor) world.getPoiManager()).accessor$worker().synchronize().join();
+    }
+
+    private void copyDirectory(final Path originalDirectory, final Path copyDirectory, final boolean isDefaultWorld, final boolean linkRegionFiles)
+            throws IOException {
+        try {
+            this.copyDirectory0(originalDirectory, copyDirectory, isDefaultWorld, linkRegionFiles);
         } catch (final IOException e) {
             // Bail the whole deal if we hit IO problems!
             try {
@@ -637,45 +686,60 @@ public FileVisitResult visitFile(final Path file, final BasicFileAttributes attr
             } catch (final IOException ignore) {
             }
 
-            return FutureUtil.completedWithException(e);
+            throw e;
         }
+    }
 
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
+    private void copyDirectory0(final Path originalDirectory, final Path copyDirectory, final boolean isDefaultWorld, final boolean linkRegionFiles)
+            throws IOException {
+        final boolean[] link = { linkRegionFiles && SharedRegionFiles.canLink(originalDirectory) };
 
-        final Path configFile = this.getConfigFile(key);
-        final Path copiedConfigFile = this.getConfigFile(copyKey);
+        Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                // Silly recursion if the default world is being copied
+                if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.copy(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                // Silly copying of vanilla sub worlds if the default world is being copied
+                if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
 
-        final JsonElement template;
-        if (this.isVanillaWorld(key)) {
-            final LevelStem stem = this.server.getWorldData().worldGenSettings().dimensions().get(SpongeWorldManager.createStemKey(key));
-            template = SpongeWorldManager.stemToJson(stem);
-        } else {
-            try (final BufferedReader reader = Files.newBufferedReader(this.getDataPackFile(key))) {
-                template = new JsonParser().parse(reader);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
+                final Path relativize = originalDirectory.relativize(dir);
+                final Path directory = copyDirectory.resolve(relativize);
+                Files.createDirectories(directory);
 
-        final JsonObject spongeData = template.getAsJsonObject().getAsJsonObject("#sponge");
-        spongeData.remove("unique_id");
+                return FileVisitResult.CONTINUE;
+            }
 
-        try {
-            this.writeTemplate(template, copyKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                final String fileName = file.getFileName().toString();
+                // Do not copy backups (not relevant anymore)
+                if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                final Path target = copyDirectory.resolve(originalDirectory.relativize(file));
+                // Region files are only ever written by RegionFileStorage, which un-shares them first
+                if (link[0] && SharedRegionFiles.isRegionFile(file)) {
+                    try {
+                        SharedRegionFiles.link(file, target);
+                        return FileVisitResult.CONTINUE;
+                    } catch (final IOException | UnsupportedOperationException e) {
+                        SpongeCommon.logger().warn("Unable to link region files, falling back to copying them.", e);
+                        link[0] = false;
+                    }
+                }
+                Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
 
-        return CompletableFuture.completedFuture(true);
+                return FileVisitResult.CONTINUE;
+            }
+        });
     }
 
     @Override
@@ -694,57 +758,51 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.beginFileOperation(key, movedKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             try {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
+                this.endFileOperation(key, movedKey);
                 return FutureUtil.completedWithException(e);
             }
         }
 
         final Path originalDirectory = this.getDirectory(key);
         final Path movedDirectory = this.getDirectory(movedKey);
-
-        try {
-            Files.createDirectories(movedDirectory);
-            Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path configFile = this.getConfigFile(key);
         final Path movedConfigFile = this.getConfigFile(movedKey);
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path movedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
-            Files.createDirectories(movedConfigFile.getParent());
-            Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
+        // Server data may only be read on the main thread
+        final JsonElement vanillaTemplate;
         if (this.isVanillaWorld(key)) {
             final LevelStem stem = this.server.getWorldData().worldGenSettings().dimensions().get(SpongeWorldManager.createStemKey(key));
-            final JsonElement template = SpongeWorldManager.stemToJson(stem);
-
-            try {
-                this.writeTemplate(template, movedKey);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
+            vanillaTemplate = SpongeWorldManager.stemToJson(stem);
         } else {
-            final Path dimensionTemplate = this.getDataPackFile(key);
-            final Path movedDimensionTemplate = this.getDataPackFile(movedKey);
+            vanillaTemplate = null;
+        }
 
-            try {
+        return this.runFileOperation(() -> {
+            Files.createDirectories(movedDirectory);
+            Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
+
+            Files.createDirectories(movedConfigFile.getParent());
+            Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+
+            if (vanillaTemplate != null) {
+                this.writeTemplate(vanillaTemplate, movedKey);
+            } else {
                 Files.createDirectories(movedDimensionTemplate.getParent());
                 Files.move(dimensionTemplate, movedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
             }
-        }
-
-        return CompletableFuture.completedFuture(true);
+            return true;
+        }, key, movedKey);
     }
 
     @Override
@@ -759,6 +817,10 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.beginFileOperation(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             final boolean disableLevelSaving = loadedWorld.noSave;
@@ -767,34 +829,56 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
                 loadedWorld.noSave = disableLevelSaving;
+                this.endFileOperation(key);
                 return FutureUtil.completedWithException(e);
             }
         }
 
-        final Path directory = getDirectory(key);
-        if (Files.exists(directory)) {
-            try {
+        final Path directory = this.getDirectory(key);
+        final Path configFile = this.getConfigFile(key);
+        final Path dimensionTemplate = this.getDataPackFile(key);
+
+        return this.runFileOperation(() -> {
+            if (Files.exists(directory)) {
                 Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
             }
-        }
 
-        final Path configFile = getConfigFile(key);
-        try {
             Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+            Files.deleteIfExists(dimensionTemplate);
+            return true;
+        }, key);
+    }
+
+    /**
+     * Reserves the given world keys for a file operation, failing if any of
+     * them is already being copied, moved or deleted.
+     */
+    private boolean beginFileOperation(final ResourceKey... keys) {
+        for (final ResourceKey key : keys) {
+            if (this.pendingFileOperations.contains(key)) {
+                return false;
+            }
         }
+        Collections.addAll(this.pendingFileOperations, keys);
+        return true;
+    }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+    private void endFileOperation(final ResourceKey... keys) {
+        for (final ResourceKey key : keys) {
+            this.pendingFileOperations.remove(key);
         }
+    }
 
-        return CompletableFuture.completedFuture(true);
+    private CompletableFuture<Boolean> runFileOperation(final FileOperation operation, final ResourceKey... keys) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return operation.run();
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                this.endFileOperation(keys);
+            }
+        }, this.fileOperationExecutor);
     }
 
     private void unloadWorld0(final ServerLevel world) throws IOException {
@@ -810,8 +894,7 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
         final UnloadWorldEvent unloadWorldEvent = SpongeEventFactory.createUnloadWorldEvent(PhaseTracker.getCauseStackManager().currentCause(), (ServerWorld) world);
         SpongeCommon.post(unloadWorldEvent);
 
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), 11, registryKey.location());
+        this.removeSpawnChunkTicket(world);
 
         ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().save();
 
@@ -937,16 +1020,71 @@ public void loadLevel() {
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
-        for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
-            }
+        // Prepare the start regions of all worlds at once, letting the chunk system work on them in parallel
+        final List<CompletableFuture<ServerLevel>> preparations = new ArrayList<>();
+        for (final ServerLevel world : new ArrayList<>(this.worlds.values())) {
+            preparations.add(this.postWorldLoad(world, true));
+        }
+        final CompletableFuture<Void> allPrepared = CompletableFuture.allOf(preparations.toArray(new CompletableFuture[0]));
+        this.awaitDuringStartup(allPrepared);
+        try {
+            allPrepared.get();
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
         }
 
         ((SpongeUserManager) Sponge.server().userManager()).init();
         ((SpongeServer) SpongeCommon.server()).getPlayerDataManager().load();
+
+        this.warmWorldPools();
+    }
+
+    /**
+     * Gets the pool of loaded copies of the given template world, if a pool
+     * was configured for it.
+     *
+     * @param template The key of the template world
+     * @return The pool, if configured
+     */
+    public Optional<SpongeWorldPool> worldPool(final ResourceKey template) {
+        Objects.requireNonNull(template, "template");
+        final SpongeWorldPool existing = this.worldPools.get(template);
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+
+        final Integer size = SpongeConfigs.getCommon().get().world.instancePools.pools.get(template.formatted());
+        if (size == null || size <= 0) {
+            return Optional.empty();
+        }
+
+        final SpongeWorldPool pool = new SpongeWorldPool(this, this.server, template, size);
+        this.worldPools.put(template, pool);
+        return Optional.of(pool);
+    }
+
+    private void warmWorldPools() {
+        final WorldPoolCategory config = SpongeConfigs.getCommon().get().world.instancePools;
+        if (!config.warmUpOnStart) {
+            return;
+        }
+
+        for (final String template : config.pools.keySet()) {
+            final ResourceKey templateKey;
+            try {
+                templateKey = ResourceKey.resolve(template);
+            } catch (final Exception e) {
+                SpongeCommon.logger().warn("Invalid world pool template key '{}'. Skipping...", template);
+                continue;
+            }
+
+            if (!this.worldExists(templateKey)) {
+                SpongeCommon.logger().warn("World pool template '{}' does not exist. Skipping...", templateKey);
+                continue;
+            }
+
+            this.worldPool(templateKey).ifPresent(SpongeWorldPool::warm);
+        }
     }
 
     private void prepareWorld(final ServerLevel world, final boolean isDebugGeneration) {
@@ -1009,92 +1147,93 @@ private void prepareWorld(final ServerLevel world, final boolean isDebugGenerati
         }
     }
 
-    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean blocking) {
+    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean isStartup) {
         final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
         final PrimaryLevelDataBridge levelBridge = (PrimaryLevelDataBridge) levelData;
         if (Level.OVERWORLD.equals(world.dimension()) || levelBridge.bridge$performsSpawnLogic()) {
             final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
             MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
                     worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-            if (blocking) {
-                this.loadSpawnChunks(world);
-                return CompletableFuture.completedFuture(world); // Chunk are generated
-            } else {
-                return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
-            }
+            return this.prepareSpawnChunks(world, isStartup); // Chunks are NOT generated yet BUT will be when the future returns
         }
         return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
     }
 
-    private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel world) {
-
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
+    /**
+     * Adds the spawn chunk ticket to the world and completes once every chunk
+     * within the ticking radius of the ticket is ticking, driven by the chunk
+     * futures of the chunk system itself.
+     */
+    private CompletableFuture<ServerLevel> prepareSpawnChunks(final ServerLevel world, final boolean isStartup) {
+        final ChunkPos chunkPos = new ChunkPos(world.getSharedSpawnPos());
         final ServerChunkCache serverChunkProvider = world.getChunkSource();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
+        final int borderRadius = Mth.clamp(((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().get().world.spawnChunkRadius, 1, 32);
+        final int tickingRadius = borderRadius - 1;
+        final int diameter = tickingRadius * 2 + 1;
 
-        final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
+        // The chunk status listener is what reports progress to the console (and the loading screen of integrated servers) at startup
+        final ChunkProgressListener chunkStatusListener = ((ServerLevelBridge) world).bridge$getChunkStatusListener();
+        final SpawnChunkProgress progress = new SpawnChunkProgress(world.dimension().location(), diameter * diameter, !isStartup);
+        if (isStartup) {
+            chunkStatusListener.updateSpawnPos(chunkPos);
+        }
 
+        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
+        this.spawnChunkRadii.put(world.dimension(), borderRadius);
         serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
-        final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
-                Task.builder().plugin(Launch.instance().platformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world
-                                        .dimension().location(), worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
-        return generationFuture.thenApply(v -> {
+        // Process the ticket now so the chunk holders exist for us to wait on
+        ((ServerChunkCacheAccessor) serverChunkProvider).invoker$runDistanceManagerUpdates();
+
+        final ChunkMapAccessor chunkMap = (ChunkMapAccessor) serverChunkProvider.chunkMap;
+        final List<CompletableFuture<?>> chunkFutures = new ArrayList<>(diameter * diameter);
+        for (int x = chunkPos.x - tickingRadius; x <= chunkPos.x + tickingRadius; x++) {
+            for (int z = chunkPos.z - tickingRadius; z <= chunkPos.z + tickingRadius; z++) {
+                final ChunkHolder holder = chunkMap.invoker$getVisibleChunkIfPresent(ChunkPos.asLong(x, z));
+                if (holder == null) {
+                    progress.chunkReady();
+                    continue;
+                }
+                chunkFutures.add(holder.getTickingChunkFuture().thenRun(progress::chunkReady));
+            }
+        }
+
+        return CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0])).thenApplyAsync(v -> {
             this.updateForcedChunks(world, serverChunkProvider);
             serverChunkProvider.getLightEngine().setTaskPerBatch(5);
+            if (isStartup) {
+                chunkStatusListener.stop();
+            }
 
             // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
             if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-                serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+                this.removeSpawnChunkTicket(world);
             }
+
+            final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
+            MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
+                    worldTypeKey.map(ResourceKey::toString).orElse("inline"));
             return world;
-        });
+        }, this.server);
     }
 
-    private void loadSpawnChunks(final ServerLevel world) {
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ChunkProgressListener chunkStatusListener = ((ServerLevelBridge) world).bridge$getChunkStatusListener();
-        chunkStatusListener.updateSpawnPos(chunkPos);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis());
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+    private void removeSpawnChunkTicket(final ServerLevel world) {
+        final Integer borderRadius = this.spawnChunkRadii.remove(world.dimension());
+        if (borderRadius != null) {
+            world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(world.getSharedSpawnPos()), borderRadius,
+                    world.dimension().location());
+        }
+    }
 
-        while (serverChunkProvider.getTickingGenerated() != 441) {
+    /**
+     * Runs server tasks until the given future is done. Used while the server
+     * is starting and the tick loop is not running yet.
+     */
+    private void awaitDuringStartup(final CompletableFuture<?> future) {
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis());
+        while (!future.isDone()) {
             ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
             ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
         }
-
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-
-        this.updateForcedChunks(world, serverChunkProvider);
-
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        chunkStatusListener.stop();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-        // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-        if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-            serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-        }
     }
 
     private void updateForcedChunks(final ServerLevel world, final ServerChunkCache serverChunkProvider) {
@@ -1193,6 +1332,36 @@ private Path getConfigFile(final ResourceKey key) {
                 .resolve(key.value() + ".conf");
     }
 
+    @FunctionalInterface
+    private interface FileOperation {
+
+        boolean run() throws IOException;
+    }
+
+    private static final class SpawnChunkProgress {
+
+        private static final int REPORT_STEP = 25;
+
+        private final ResourceLocation world;
+        private final int total;
+        private final boolean report;
+        private int ready;
+
+        SpawnChunkProgress(final ResourceLocation world, final int total, final boolean report) {
+            this.world = world;
+            this.total = total;
+            this.report = report;
+        }
+
+        void chunkReady() {
+            final int previous = this.ready++ * 100 / this.total;
+            final int percent = this.ready * 100 / this.total;
+            if (this.report && percent < 100 && percent / SpawnChunkProgress.REPORT_STEP != previous / SpawnChunkProgress.REPORT_STEP) {
+                MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}': {}%", this.world, percent);
+            }
+        }
+    }
+
     private static final class SingleTemplateAccess implements RegistryReadOps.ResourceAccess {
 
         private final net.minecraft.resources.ResourceKey<?> key;
@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A pool of loaded copies of a template world, intended for worlds that are
+ * used once and thrown away such as minigame arenas.
+ *
+ * <p>Acquiring a world hands out a ready copy immediately if one is available.
+ * Released copies are reset by copying the template world over them again, in
+ * the background, and put back in the pool. Copies are never saved.</p>
+ *
+ * <p>Pools must only be used from the main thread.</p>
+ */
+public final class SpongeWorldPool {
+
+    private static final String INSTANCE_SUFFIX = "_pool_";
+
+    private final SpongeWorldManager manager;
+    private final MinecraftServer server;
+    private final ResourceKey template;
+    private final int size;
+
+    private final Deque<ServerWorld> ready = new ArrayDeque<>();
+    private final Set<ResourceKey> instances = new HashSet<>();
+    private final Deque<ResourceKey> freeKeys = new ArrayDeque<>();
+    // Copies from the same template are made one at a time, the template may not be shared between file operations
+    private CompletableFuture<?> lastCreation = CompletableFuture.completedFuture(null);
+    private int nextIndex;
+    private int warming;
+
+    private long hits;
+    private long misses;
+    private long recycled;
+    private long failures;
+
+    SpongeWorldPool(final SpongeWorldManager manager, final MinecraftServer server, final ResourceKey template, final int size) {
+        this.manager = manager;
+        this.server = server;
+        this.template = template;
+        this.size = size;
+    }
+
+    public ResourceKey template() {
+        return this.template;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets a copy of the template world. The future is already complete if a
+     * ready copy was available, otherwise a new copy is created.
+     *
+     * @return The world
+     */
+    public CompletableFuture<ServerWorld> acquire() {
+        final @Nullable ServerWorld world = this.pollReady();
+        if (world != null) {
+            this.hits++;
+            this.warm();
+            return CompletableFuture.completedFuture(world);
+        }
+
+        this.misses++;
+        final ResourceKey key = this.nextKey();
+        final CompletableFuture<ServerWorld> future = this.createInstance(key);
+        future.whenCompleteAsync((w, t) -> {
+            if (t != null) {
+                this.discard(key, t);
+            }
+        }, this.server);
+        this.warm();
+        return future;
+    }
+
+    /**
+     * Returns a world previously acquired from this pool. The world is
+     * unloaded and, if the pool needs it, reset to the template and made
+     * ready again. Players must have left the world before it is released.
+     *
+     * @param world The world
+     * @return A future completing once the world was recycled or deleted
+     */
+    public CompletableFuture<Boolean> release(final ServerWorld world) {
+        final ResourceKey key = Objects.requireNonNull(world, "world").key();
+        if (!this.instances.contains(key) || this.ready.contains(world)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        if (this.ready.size() + this.warming >= this.size) {
+            return this.manager.deleteWorld(key).whenCompleteAsync((r, t) -> {
+                this.instances.remove(key);
+                this.freeKeys.add(key);
+            }, this.server);
+        }
+
+        this.recycled++;
+        return this.fill(key);
+    }
+
+    /**
+     * Creates copies until the pool holds its configured number of worlds.
+     */
+    public void warm() {
+        while (this.ready.size() + this.warming < this.size) {
+            this.fill(this.nextKey());
+        }
+    }
+
+    public int ready() {
+        return this.ready.size();
+    }
+
+    public int warming() {
+        return this.warming;
+    }
+
+    /**
+     * Gets the number of acquisitions that were served by a ready copy.
+     *
+     * @return The number of hits
+     */
+    public long hits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of acquisitions that had to wait for a new copy.
+     *
+     * @return The number of misses
+     */
+    public long misses() {
+        return this.misses;
+    }
+
+    public long recycled() {
+        return this.recycled;
+    }
+
+    public long failures() {
+        return this.failures;
+    }
+
+    private @Nullable ServerWorld pollReady() {
+        ServerWorld world;
+        while ((world = this.ready.poll()) != null) {
+            // Skip copies that were unloaded behind our back
+            if (this.manager.world(world.key()).orElse(null) == world) {
+                return world;
+            }
+            this.instances.remove(world.key());
+            this.freeKeys.add(world.key());
+        }
+        return null;
+    }
+
+    private CompletableFuture<Boolean> fill(final ResourceKey key) {
+        this.warming++;
+        return this.createInstance(key).handleAsync((world, t) -> {
+            this.warming--;
+            if (t != null) {
+                this.discard(key, t);
+                return false;
+            }
+            this.ready.add(world);
+            return true;
+        }, this.server);
+    }
+
+    private void discard(final ResourceKey key, final Throwable t) {
+        this.failures++;
+        this.instances.remove(key);
+        this.freeKeys.add(key);
+        SpongeCommon.logger().error("Failed to create copy '{}' of pooled world '{}'", key, this.template, t);
+    }
+
+    private ResourceKey nextKey() {
+        final @Nullable ResourceKey free = this.freeKeys.poll();
+        final ResourceKey key = free != null ? free
+            : ResourceKey.of(this.template.namespace(), this.template.value() + SpongeWorldPool.INSTANCE_SUFFIX + this.nextIndex++);
+        this.instances.add(key);
+        return key;
+    }
+
+    private CompletableFuture<ServerWorld> createInstance(final ResourceKey key) {
+        final CompletableFuture<ServerWorld> future = this.lastCreation
+            .handleAsync((r, t) -> null, this.server)
+            .thenCompose(v -> this.manager.worldExists(key) ? this.manager.deleteWorld(key) : CompletableFuture.completedFuture(true))
+            .thenComposeAsync(v -> this.manager.copyWorld(this.template, key), this.server)
+            .thenComposeAsync(copied -> {
+                if (!copied) {
+                    throw new CompletionException(new IOException(String.format("Failed to copy world '%s' to '%s'!", this.template, key)));
+                }
+                return this.manager.loadWorld(key);
+            }, this.server)
+            .thenApply(world -> {
+                // Copies are reset from the template, there is nothing worth saving
+                ((ServerLevel) world).noSave = true;
+                return world;
+            });
+        this.lastCreation = future;
+        return future;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, palette compressed copy of the part of a chunk section that
+ * lies within a volume's bounds. Snapshots share nothing with the world they
+ * were taken from, so they may be read from any thread.
+ */
+final class BlockSectionSnapshot {
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final BlockState[] palette;
+    private final BlockBackingData data;
+
+    private BlockSectionSnapshot(final int minX, final int minY, final int minZ, final int sizeX, final int sizeY, final int sizeZ,
+        final BlockState[] palette, final BlockBackingData data
+    ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.palette = palette;
+        this.data = data;
+    }
+
+    /**
+     * Copies every section of the given chunk intersecting the bounds. Must be
+     * called from the thread owning the chunk.
+     *
+     * @param chunk The chunk
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param snapshots The list to add the snapshots to
+     */
+    static void copy(final ChunkAccess chunk, final Vector3i min, final Vector3i max, final List<BlockSectionSnapshot> snapshots) {
+        final int chunkMinX = chunk.getPos().getMinBlockX();
+        final int chunkMinZ = chunk.getPos().getMinBlockZ();
+        final int startX = Math.max(min.x(), chunkMinX);
+        final int endX = Math.min(max.x(), chunkMinX + 15);
+        final int startZ = Math.max(min.z(), chunkMinZ);
+        final int endZ = Math.min(max.z(), chunkMinZ + 15);
+        final int[] ids = new int[16 * 16 * 16];
+        final Reference2IntMap<BlockState> localIds = new Reference2IntOpenHashMap<>();
+        final List<BlockState> palette = new ArrayList<>();
+        for (final @Nullable LevelChunkSection section : chunk.getSections()) {
+            // Matching the live stream, empty sections produce no elements
+            if (section == null) {
+                continue;
+            }
+            final int sectionY = section.bottomBlockY();
+            final int startY = Math.max(min.y(), sectionY);
+            final int endY = Math.min(max.y(), sectionY + 15);
+            if (startY > endY) {
+                continue;
+            }
+            localIds.clear();
+            palette.clear();
+            int index = 0;
+            for (int z = startZ; z <= endZ; z++) {
+                for (int x = startX; x <= endX; x++) {
+                    for (int y = startY; y <= endY; y++) {
+                        final BlockState state = section.getBlockState(x - chunkMinX, y - sectionY, z - chunkMinZ);
+                        int id = localIds.getOrDefault(state, -1);
+                        if (id == -1) {
+                            id = palette.size();
+                            palette.add(state);
+                            localIds.put(state, id);
+                        }
+                        ids[index++] = id;
+                    }
+                }
+            }
+            final BlockBackingData data = new BlockBackingData.PackedBackingData(index, Math.max(1, palette.size() - 1));
+            for (int i = 0; i < index; i++) {
+                data.set(i, ids[i]);
+            }
+            snapshots.add(new BlockSectionSnapshot(startX, startY, startZ, endX - startX + 1, endY - startY + 1, endZ - startZ + 1,
+                palette.toArray(new BlockState[0]), data));
+        }
+    }
+
+    <V extends Volume> Stream<VolumeElement<V, org.spongepowered.api.block.BlockState>> elements(final Supplier<V> volume) {
+        final int layer = this.sizeY * this.sizeX;
+        return IntStream.range(0, layer * this.sizeZ).mapToObj(index -> {
+            final org.spongepowered.api.block.BlockState state = (org.spongepowered.api.block.BlockState) this.palette[this.data.get(index)];
+            final int z = index / layer;
+            final int x = (index % layer) / this.sizeY;
+            final int y = index % this.sizeY;
+            return VolumeElement.of(volume, () -> state, new Vector3d(this.minX + x, this.minY + y, this.minZ + z));
+        });
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import com.mojang.datafixers.util.Either;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Requests every chunk covered by a volume from the chunk system without
+ * blocking the server thread, keeping at most a fixed number of requests in
+ * flight at once.
+ *
+ * <p>Chunk requests are always issued from the server thread. When
+ * {@link #prefetch prefetching}, each loaded chunk is kept loaded with a
+ * short-lived ticket so that a stream created from the prefetched chunks does
+ * not have to load them again.</p>
+ */
+public final class ChunkPrefetcher {
+
+    public static final int DEFAULT_WINDOW = 32;
+
+    private static final Object END = new Object();
+
+    // 15 seconds, after which the chunks may unload again unless they were otherwise ticketed.
+    private static final TicketType<ChunkPos> PREFETCH = TicketType.create("sponge_volume_prefetch",
+        Comparator.comparingLong(ChunkPos::toLong), 300);
+
+    private final ServerLevel level;
+    private final ChunkStatus status;
+    private final boolean generate;
+    private final boolean ticket;
+    private final int window;
+    private final IntSupplier backlog;
+    private final Consumer<ChunkAccess> listener;
+    private final Deque<ChunkPos> pending = new ArrayDeque<>();
+    private final Long2ObjectMap<ChunkAccess> loaded = new Long2ObjectLinkedOpenHashMap<>();
+    private final CompletableFuture<Long2ObjectMap<ChunkAccess>> result = new CompletableFuture<>();
+    private int inFlight;
+
+    private ChunkPrefetcher(final ServerLevel level, final boolean generate, final boolean ticket, final int window,
+        final IntSupplier backlog, final Consumer<ChunkAccess> listener
+    ) {
+        this.level = level;
+        this.generate = generate;
+        this.status = generate ? ChunkStatus.FULL : ChunkStatus.EMPTY;
+        this.ticket = ticket;
+        this.window = window;
+        this.backlog = backlog;
+        this.listener = listener;
+    }
+
+    /**
+     * Asynchronously loads, and generates if requested, every chunk within the
+     * given block bounds.
+     *
+     * <p>Cancelling the returned future stops issuing further requests and
+     * releases the tickets of the chunks loaded so far.</p>
+     *
+     * @param level The level to load chunks from
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param generate Whether missing chunks should be generated
+     * @param window The maximum amount of chunks requested at once
+     * @param listener Notified on the server thread of every chunk as soon as it
+     *     is available, in completion order
+     * @return A future completed with the available chunks, keyed by their
+     *     {@link ChunkPos#toLong() packed position}
+     */
+    public static CompletableFuture<Long2ObjectMap<ChunkAccess>> prefetch(final ServerLevel level, final Vector3i min, final Vector3i max,
+        final boolean generate, final int window, final Consumer<ChunkAccess> listener
+    ) {
+        return ChunkPrefetcher.start(level, min, max, generate, true, window, () -> 0, listener).result;
+    }
+
+    /**
+     * Asynchronously loads every chunk within the given block bounds like
+     * {@link #prefetch}, copying each chunk on the server thread as soon as it
+     * is available, and exposes the copies through a blocking iterator in
+     * completion order. As the copies are taken right away, the chunks are
+     * not ticketed.
+     *
+     * <p>Requested chunks and copies not yet consumed together never exceed
+     * the window, new chunks are only requested as the iterator is consumed.
+     * The iterator blocks until the next copy is available, and must
+     * therefore never be consumed on the server thread. It must be
+     * {@link Prefetch#close() closed} when abandoned before being
+     * exhausted.</p>
+     *
+     * @param level The level to load chunks from
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param generate Whether missing chunks should be generated
+     * @param window The maximum amount of chunks requested or copied but not
+     *     consumed at once
+     * @param copier Creates the thread safe copy of a chunk, on the server thread
+     * @param <T> The copy type
+     * @return The blocking iterator
+     */
+    public static <T> Prefetch<T> iterate(final ServerLevel level, final Vector3i min, final Vector3i max,
+        final boolean generate, final int window, final Function<ChunkAccess, T> copier
+    ) {
+        Objects.requireNonNull(copier, "copier");
+        // Room for every copy the window allows, and the end of the stream
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(window + 1);
+        final ChunkPrefetcher prefetcher = ChunkPrefetcher.start(level, min, max, generate, false, window, queue::size,
+            chunk -> queue.add(copier.apply(chunk)));
+        prefetcher.result.whenComplete((chunks, throwable) -> {
+            if (!(throwable instanceof CancellationException)) {
+                queue.add(throwable == null ? ChunkPrefetcher.END : new Failure(throwable));
+            }
+        });
+        return new Prefetch<>(prefetcher, queue);
+    }
+
+    private static ChunkPrefetcher start(final ServerLevel level, final Vector3i min, final Vector3i max, final boolean generate,
+        final boolean ticket, final int window, final IntSupplier backlog, final Consumer<ChunkAccess> listener
+    ) {
+        Objects.requireNonNull(level, "level");
+        Objects.requireNonNull(listener, "listener");
+        if (window < 1) {
+            throw new IllegalArgumentException("The in-flight window must be at least 1!");
+        }
+        final ChunkPrefetcher prefetcher = new ChunkPrefetcher(level, generate, ticket, window, backlog, listener);
+        for (int x = min.x() >> 4; x <= max.x() >> 4; x++) {
+            for (int z = min.z() >> 4; z <= max.z() >> 4; z++) {
+                prefetcher.pending.add(new ChunkPos(x, z));
+            }
+        }
+        prefetcher.result.whenComplete((chunks, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                level.getServer().execute(prefetcher::release);
+            }
+        });
+        level.getServer().execute(prefetcher::pump);
+        return prefetcher;
+    }
+
+    private void pump() {
+        if (this.result.isDone()) {
+            return;
+        }
+        while (this.inFlight + this.backlog.getAsInt() < this.window && !this.pending.isEmpty()) {
+            final ChunkPos pos = this.pending.poll();
+            this.inFlight++;
+            final CompletableFuture<Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure>> future;
+            try {
+                future = ((ServerChunkCacheAccessor) this.level.getChunkSource())
+                    .invoker$getChunkFutureMainThread(pos.x, pos.z, this.status, this.generate);
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+                return;
+            }
+            future.whenComplete((either, throwable) -> this.level.getServer().execute(() -> this.complete(pos, either, throwable)));
+        }
+        if (this.inFlight == 0 && this.pending.isEmpty()) {
+            this.result.complete(this.loaded);
+        }
+    }
+
+    private void complete(final ChunkPos pos, final @Nullable Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure> either,
+        final @Nullable Throwable throwable
+    ) {
+        this.inFlight--;
+        // Chunk futures are shared with the chunk system and cannot be cancelled,
+        // requests still in flight once cancelled are left to finish on their own
+        if (this.result.isDone()) {
+            return;
+        }
+        if (throwable != null) {
+            this.result.completeExceptionally(throwable);
+            return;
+        }
+        final @Nullable ChunkAccess chunk = either == null ? null : either.left().orElse(null);
+        if (chunk != null) {
+            final ChunkAccess unwrapped = chunk instanceof ImposterProtoChunk ? ((ImposterProtoChunk) chunk).getWrapped() : chunk;
+            if (this.ticket) {
+                this.level.getChunkSource().addRegionTicket(ChunkPrefetcher.PREFETCH, pos, 0, pos);
+            }
+            this.loaded.put(pos.toLong(), unwrapped);
+            try {
+                this.listener.accept(unwrapped);
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+                return;
+            }
+        } else if (this.generate) {
+            this.result.completeExceptionally(new IllegalStateException("Chunk " + pos + " was expected to load fully and generate, but failed to"));
+            return;
+        }
+        this.pump();
+    }
+
+    private void release() {
+        this.pending.clear();
+        if (this.ticket) {
+            for (final long pos : this.loaded.keySet()) {
+                final ChunkPos chunkPos = new ChunkPos(pos);
+                this.level.getChunkSource().removeRegionTicket(ChunkPrefetcher.PREFETCH, chunkPos, 0, chunkPos);
+            }
+        }
+        this.loaded.clear();
+    }
+
+    /**
+     * A blocking iterator over the copies of prefetched chunks.
+     *
+     * @param <T> The copy type
+     */
+    public static final class Prefetch<T> implements Iterator<T>, AutoCloseable {
+
+        private final ChunkPrefetcher prefetcher;
+        private final BlockingQueue<Object> queue;
+        private @Nullable Object next;
+        private volatile boolean closed;
+
+        Prefetch(final ChunkPrefetcher prefetcher, final BlockingQueue<Object> queue) {
+            this.prefetcher = prefetcher;
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.closed) {
+                return false;
+            }
+            if (this.next == null) {
+                try {
+                    this.next = this.queue.take();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+                if (this.next != ChunkPrefetcher.END && !(this.next instanceof Failure)) {
+                    // A copy was taken off the queue, make room for the next request
+                    this.prefetcher.level.getServer().execute(this.prefetcher::pump);
+                }
+            }
+            if (this.next instanceof Failure) {
+                throw new CompletionException(((Failure) this.next).cause);
+            }
+            return this.next != ChunkPrefetcher.END;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final T next = (T) this.next;
+            this.next = null;
+            return next;
+        }
+
+        /**
+         * Stops requesting further chunks and discards the copies not yet
+         * consumed. Safe to call from any thread, and more than once.
+         */
+        @Override
+        public void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.prefetcher.result.cancel(false);
+            this.queue.clear();
+            // Wake up a consumer blocked on another thread
+            this.queue.offer(ChunkPrefetcher.END);
+        }
+    }
+
+    private static final class Failure {
+
+        final Throwable cause;
+
+        Failure(final Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies a large number of block changes to a {@link ServerLevel} by writing
+ * them directly into the {@link LevelChunkSection}s they belong to, bypassing
+ * the per-block {@code Level#setBlock} path.
+ *
+ * <p>Changes are first {@link #stage(int, int, int, BlockState) staged} and
+ * grouped by chunk and section. On {@link #apply()}, chunks are processed one
+ * at a time: a {@link ChangeBlockEvent.All} is posted for the changes staged in
+ * the chunk, after which each of its sections is written in one pass,
+ * heightmaps are primed once per chunk,
+ * light is re-checked only for positions whose light properties changed, and
+ * one chunk packet is sent per affected chunk covering only the modified
+ * sections.</p>
+ *
+ * <p>Posting per chunk bounds the snapshots and transactions alive at any time
+ * to a single chunk's worth, rather than two snapshots for every block of the
+ * whole paste. Cancelling the event of one chunk only skips that chunk.</p>
+ *
+ * <p>As with any raw section write, neighbor notifications, block physics and
+ * {@code onPlace}/{@code onRemove} callbacks are not performed.</p>
+ */
+public final class SectionedBlockApplicator {
+
+    private static final int SECTIONS_PER_CHUNK = 16;
+    private static final int BLOCKS_PER_SECTION = 16 * 16 * 16;
+
+    private final ServerLevel level;
+    private final Long2ObjectMap<PendingChunk> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    private int staged;
+
+    public SectionedBlockApplicator(final ServerLevel level) {
+        this.level = Objects.requireNonNull(level, "level");
+    }
+
+    /**
+     * Applies every block state element of the given stream to the target
+     * level in bulk, offsetting each position by the provided amount.
+     *
+     * @param stream The stream of block states to apply
+     * @param target The level to apply the block states to
+     * @param offset The offset added to every element position
+     * @return The number of blocks that were changed
+     */
+    public static int apply(final VolumeStream<?, ? extends org.spongepowered.api.block.BlockState> stream,
+        final ServerLevel target, final Vector3i offset
+    ) {
+        final SectionedBlockApplicator applicator = new SectionedBlockApplicator(target);
+        stream.toStream().forEach(element -> {
+            final Vector3d position = element.position();
+            applicator.stage(
+                position.floorX() + offset.x(),
+                position.floorY() + offset.y(),
+                position.floorZ() + offset.z(),
+                (BlockState) element.type()
+            );
+        });
+        return applicator.apply();
+    }
+
+    /**
+     * Stages a block change at the given world coordinates. Later stages for
+     * the same position replace earlier ones. Positions outside of the build
+     * height are ignored.
+     *
+     * @param x The world x coordinate
+     * @param y The world y coordinate
+     * @param z The world z coordinate
+     * @param state The new block state
+     */
+    public void stage(final int x, final int y, final int z, final BlockState state) {
+        if (this.level.isOutsideBuildHeight(y)) {
+            return;
+        }
+        final long chunkKey = ChunkPos.asLong(x >> 4, z >> 4);
+        PendingChunk chunk = this.chunks.get(chunkKey);
+        if (chunk == null) {
+            chunk = new PendingChunk(x >> 4, z >> 4);
+            this.chunks.put(chunkKey, chunk);
+        }
+        if (chunk.stage(x & 15, y, z & 15, Objects.requireNonNull(state, "state"))) {
+            this.staged++;
+        }
+    }
+
+    public int stagedCount() {
+        return this.staged;
+    }
+
+    /**
+     * Writes all staged changes to the level.
+     *
+     * @return The number of blocks that were changed
+     */
+    public int apply() {
+        if (this.chunks.isEmpty()) {
+            return 0;
+        }
+        int changed = 0;
+        final LevelLightEngine lightEngine = this.level.getChunkSource().getLightEngine();
+        for (final PendingChunk pending : this.chunks.values()) {
+            if (ShouldFire.CHANGE_BLOCK_EVENT_ALL && !this.postEvent(pending)) {
+                continue;
+            }
+            changed += this.applyChunk(pending, lightEngine);
+        }
+        this.clear();
+        return changed;
+    }
+
+    private void clear() {
+        this.chunks.clear();
+        this.staged = 0;
+    }
+
+    private int applyChunk(final PendingChunk pending, final LevelLightEngine lightEngine) {
+        final LevelChunk chunk = this.level.getChunk(pending.x, pending.z);
+        final LevelChunkSection[] sections = chunk.getSections();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final List<BlockPos> blockEntityPositions = new ArrayList<>();
+        int sectionMask = 0;
+        int changed = 0;
+        for (int sectionY = 0; sectionY < SectionedBlockApplicator.SECTIONS_PER_CHUNK; sectionY++) {
+            final @Nullable BlockState[] states = pending.sections[sectionY];
+            if (states == null) {
+                continue;
+            }
+            LevelChunkSection section = sections[sectionY];
+            if (section == LevelChunk.EMPTY_SECTION) {
+                section = new LevelChunkSection(sectionY << 4);
+                sections[sectionY] = section;
+            }
+            final boolean wasEmpty = section.isEmpty();
+            int sectionChanges = 0;
+            section.acquire();
+            try {
+                for (int index = 0; index < SectionedBlockApplicator.BLOCKS_PER_SECTION; index++) {
+                    final @Nullable BlockState state = states[index];
+                    if (state == null) {
+                        continue;
+                    }
+                    final int localX = index & 15;
+                    final int localZ = (index >> 4) & 15;
+                    final int localY = index >> 8;
+                    final BlockState original = section.setBlockState(localX, localY, localZ, state, false);
+                    if (original == state) {
+                        continue;
+                    }
+                    sectionChanges++;
+                    pos.set(chunk.getPos().getMinBlockX() + localX, (sectionY << 4) + localY, chunk.getPos().getMinBlockZ() + localZ);
+                    if (original.getBlock() != state.getBlock() && original.hasBlockEntity()) {
+                        chunk.removeBlockEntity(pos);
+                    }
+                    if (state.hasBlockEntity()) {
+                        blockEntityPositions.add(pos.immutable());
+                    }
+                    if (SectionedBlockApplicator.hasDifferentLightProperties(this.level, pos, original, state)) {
+                        lightEngine.checkBlock(pos);
+                    }
+                    this.level.onBlockStateChange(pos, original, state);
+                }
+            } finally {
+                section.release();
+            }
+            if (sectionChanges == 0) {
+                continue;
+            }
+            final boolean isEmpty = section.isEmpty();
+            if (wasEmpty != isEmpty) {
+                lightEngine.updateSectionStatus(SectionPos.of(pending.x, sectionY, pending.z), isEmpty);
+            }
+            sectionMask |= 1 << sectionY;
+            changed += sectionChanges;
+        }
+        if (sectionMask == 0) {
+            return 0;
+        }
+        for (final BlockPos blockEntityPos : blockEntityPositions) {
+            chunk.getBlockEntity(blockEntityPos, LevelChunk.EntityCreationType.CHECK);
+        }
+        final Set<Heightmap.Types> heightmaps = EnumSet.noneOf(Heightmap.Types.class);
+        for (final Map.Entry<Heightmap.Types, Heightmap> entry : chunk.getHeightmaps()) {
+            heightmaps.add(entry.getKey());
+        }
+        Heightmap.primeHeightmaps(chunk, heightmaps);
+        chunk.setUnsaved(true);
+
+        final ClientboundLevelChunkPacket packet = new ClientboundLevelChunkPacket(chunk, sectionMask);
+        this.level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false)
+            .forEach(player -> player.connection.send(packet));
+        return changed;
+    }
+
+    private boolean postEvent(final PendingChunk pending) {
+        final List<BlockTransaction> transactions = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final LevelChunk chunk = this.level.getChunk(pending.x, pending.z);
+        pending.forEach((index, sectionY, state) -> {
+            pos.set(chunk.getPos().getMinBlockX() + (index & 15), (sectionY << 4) + (index >> 8), chunk.getPos().getMinBlockZ() + ((index >> 4) & 15));
+            final BlockState current = chunk.getBlockState(pos);
+            if (current == state) {
+                return;
+            }
+            final SpongeBlockSnapshot original = this.createSnapshot(pos, current, chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK));
+            final SpongeBlockSnapshot result = this.createSnapshot(pos, state, null);
+            transactions.add(new BlockTransaction(original, result, ImmutableList.of(), SectionedBlockApplicator.operation(current, state)));
+        });
+        if (transactions.isEmpty()) {
+            return true;
+        }
+        final ChangeBlockEvent.All event = SpongeEventFactory.createChangeBlockEventAll(
+            PhaseTracker.getCauseStackManager().currentCause(),
+            transactions,
+            (ServerWorld) this.level
+        );
+        if (SpongeCommon.post(event)) {
+            return false;
+        }
+        // Transactions cannot change position, so these only touch the chunk being processed
+        for (final BlockTransaction transaction : event.transactions()) {
+            final Vector3i position = transaction.original().position();
+            if (!transaction.isValid()) {
+                this.unstage(position.x(), position.y(), position.z());
+                continue;
+            }
+            final BlockSnapshot replacement = transaction.finalReplacement();
+            this.stage(position.x(), position.y(), position.z(), (BlockState) replacement.state());
+        }
+        return true;
+    }
+
+    private void unstage(final int x, final int y, final int z) {
+        final @Nullable PendingChunk chunk = this.chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+        if (chunk != null && chunk.unstage(x & 15, y, z & 15)) {
+            this.staged--;
+        }
+    }
+
+    private SpongeBlockSnapshot createSnapshot(final BlockPos pos, final BlockState state,
+        final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity
+    ) {
+        final SpongeBlockSnapshot.BuilderImpl builder = SpongeBlockSnapshot.BuilderImpl.pooled();
+        builder.reset();
+        builder.blockState(state)
+            .world(this.level)
+            .position(VecHelper.toVector3i(pos));
+        if (blockEntity != null) {
+            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+        }
+        return builder.build();
+    }
+
+    private static org.spongepowered.api.block.transaction.Operation operation(final BlockState original, final BlockState result) {
+        if (result.getBlock() == Blocks.AIR) {
+            return BlockChange.BREAK.toOperation();
+        } else if (result.getBlock() != original.getBlock()) {
+            return BlockChange.PLACE.toOperation();
+        }
+        return BlockChange.MODIFY.toOperation();
+    }
+
+    private static boolean hasDifferentLightProperties(final ServerLevel level, final BlockPos pos, final BlockState original,
+        final BlockState state
+    ) {
+        return original.getLightBlock(level, pos) != state.getLightBlock(level, pos)
+            || original.getLightEmission() != state.getLightEmission()
+            || original.useShapeForLightOcclusion()
+            || state.useShapeForLightOcclusion();
+    }
+
+    @FunctionalInterface
+    interface StagedVisitor {
+
+        void visit(int index, int sectionY, BlockState state);
+    }
+
+    static final class PendingChunk {
+
+        final int x;
+        final int z;
+        final @Nullable BlockState[][] sections = new BlockState[SectionedBlockApplicator.SECTIONS_PER_CHUNK][];
+
+        PendingChunk(final int x, final int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        boolean stage(final int localX, final int y, final int localZ, final BlockState state) {
+            @Nullable BlockState[] states = this.sections[y >> 4];
+            if (states == null) {
+                states = new BlockState[SectionedBlockApplicator.BLOCKS_PER_SECTION];
+                this.sections[y >> 4] = states;
+            }
+            final int index = PendingChunk.index(localX, y & 15, localZ);
+            final boolean added = states[index] == null;
+            states[index] = state;
+            return added;
+        }
+
+        boolean unstage(final int localX, final int y, final int localZ) {
+            final @Nullable BlockState[] states = this.sections[y >> 4];
+            if (states == null) {
+                return false;
+            }
+            final int index = PendingChunk.index(localX, y & 15, localZ);
+            final boolean removed = states[index] != null;
+            states[index] = null;
+            return removed;
+        }
+
+        void forEach(final StagedVisitor visitor) {
+            for (int sectionY = 0; sectionY < this.sections.length; sectionY++) {
+                final @Nullable BlockState[] states = this.sections[sectionY];
+                if (states == null) {
+                    continue;
+                }
+                for (int index = 0; index < states.length; index++) {
+                    final @Nullable BlockState state = states[index];
+                    if (state != null) {
+                        visitor.visit(index, sectionY, state);
+                    }
+                }
+            }
+        }
+
+        static int index(final int localX, final int localY, final int localZ) {
+            return localY << 8 | localZ << 4 | localX;
+        }
+    }
+}
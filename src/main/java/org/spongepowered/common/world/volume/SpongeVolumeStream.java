@@ -40,6 +40,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Iterator;
 import java.util.Optional;
@@ -53,12 +54,29 @@
 
     private final Supplier<? extends V> volumeSupplier;
     private final Stream<VolumeElement<V, T>> stream;
+    private final @Nullable VolumeCursor<T> cursor;
 
     public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
         final Supplier<? extends V> volumeSupplier
+    ) {
+        this(elementStream, volumeSupplier, null);
+    }
+
+    /**
+     * Creates a stream that, for terminal operations not requiring boxed
+     * elements, visits the elements through the provided cursor instead of
+     * consuming the element stream.
+     *
+     * @param elementStream The element stream
+     * @param volumeSupplier The volume supplier
+     * @param cursor The cursor visiting the same elements as the stream
+     */
+    public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
+        final Supplier<? extends V> volumeSupplier, final @Nullable VolumeCursor<T> cursor
     ) {
         this.stream = elementStream;
         this.volumeSupplier = volumeSupplier;
+        this.cursor = cursor;
     }
 
     @Override
@@ -68,6 +86,7 @@ public V volume() {
 
     @Override
     public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
+        final @Nullable VolumeCursor<T> cursor = this.cursor;
         return new SpongeVolumeStream<>(this.stream
             .filter(element ->
                 predicate.test(
@@ -77,7 +96,12 @@ public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
                     element.position().y(),
                     element.position().z()
                 )
-            ), this.volumeSupplier);
+            ), this.volumeSupplier, cursor == null ? null : (filter, visitor) -> {
+                final V volume = this.volume();
+                final ElementSupplier<T> supplier = new ElementSupplier<>();
+                return cursor.visit(filter, (x, y, z, element) ->
+                    !predicate.test(volume, supplier.set(element), x, y, z) || visitor.visit(x, y, z, element));
+            });
     }
 
     @Override
@@ -85,6 +109,22 @@ public VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> pr
         return new SpongeVolumeStream<>(this.stream.filter(predicate), this.volumeSupplier);
     }
 
+    /**
+     * Filters the elements of this stream by their type only. Unlike the other
+     * filter operations, this lets the cursor skip whole regions, such as
+     * chunk sections whose palette cannot contain a matching element.
+     *
+     * @param predicate The type predicate
+     * @return The filtered stream
+     */
+    public SpongeVolumeStream<V, T> filterTypes(final Predicate<? super T> predicate) {
+        final @Nullable VolumeCursor<T> cursor = this.cursor;
+        return new SpongeVolumeStream<>(this.stream.filter(element -> predicate.test(element.type())), this.volumeSupplier,
+            cursor == null ? null : (filter, visitor) -> cursor.visit(filter == null
+                ? predicate
+                : element -> filter.test(element) && predicate.test(element), visitor));
+    }
+
     @Override
     public <Out> VolumeStream<V, Out> map(final VolumeMapper<V, T, Out> mapper) {
         return new SpongeVolumeStream<>(this.stream.map(element ->
@@ -137,66 +177,89 @@ public <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? exte
 
     @Override
     public long count() {
-        return this.stream.count();
+        if (this.cursor != null) {
+            final long[] count = new long[1];
+            this.cursor.visit(null, (x, y, z, element) -> {
+                count[0]++;
+                return true;
+            });
+            return count[0];
+        }
+        return this.terminate(Stream::count);
     }
 
     @Override
     public boolean allMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream
+        if (this.cursor != null) {
+            final V volume = this.volume();
+            final ElementSupplier<T> supplier = new ElementSupplier<>();
+            return this.cursor.visit(null, (x, y, z, element) -> predicate.test(volume, supplier.set(element), x, y, z));
+        }
+        return this.terminate(stream -> stream
             .allMatch(element -> predicate.test(
                 this.volume(),
                 element::type,
                 element.position().x(),
                 element.position().y(),
                 element.position().z()
-            ));
+            )));
     }
 
     @Override
     public boolean allMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return this.stream.allMatch(predicate);
+        return this.terminate(stream -> stream.allMatch(predicate));
     }
 
     @Override
     public boolean noneMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream.noneMatch(element -> predicate.test(
+        if (this.cursor != null) {
+            final V volume = this.volume();
+            final ElementSupplier<T> supplier = new ElementSupplier<>();
+            return this.cursor.visit(null, (x, y, z, element) -> !predicate.test(volume, supplier.set(element), x, y, z));
+        }
+        return this.terminate(stream -> stream.noneMatch(element -> predicate.test(
             this.volume(),
             element::type,
             element.position().x(),
             element.position().y(),
             element.position().z()
-        ));
+        )));
     }
 
     @Override
     public boolean noneMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return this.stream.noneMatch(predicate);
+        return this.terminate(stream -> stream.noneMatch(predicate));
     }
 
     @Override
     public boolean anyMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream.anyMatch(element -> predicate.test(
+        if (this.cursor != null) {
+            final V volume = this.volume();
+            final ElementSupplier<T> supplier = new ElementSupplier<>();
+            return !this.cursor.visit(null, (x, y, z, element) -> !predicate.test(volume, supplier.set(element), x, y, z));
+        }
+        return this.terminate(stream -> stream.anyMatch(element -> predicate.test(
             this.volume(),
             element::type,
             element.position().x(),
             element.position().y(),
             element.position().z()
-        ));
+        )));
     }
 
     @Override
     public boolean anyMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return this.stream.anyMatch(predicate);
+        return this.terminate(stream -> stream.anyMatch(predicate));
     }
 
     @Override
     public Optional<VolumeElement<V, T>> findFirst() {
-        return this.stream.findFirst();
+        return this.terminate(Stream::findFirst);
     }
 
     @Override
     public Optional<VolumeElement<V, T>> findAny() {
-        return this.stream.findAny();
+        return this.terminate(Stream::findAny);
     }
 
     @Override
@@ -217,50 +280,112 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
             if (context != null) {
                 context.buildAndSwitch();
             }
-            this.stream.forEach(element -> {
+            if (this.cursor != null) {
+                this.cursor.visit(null, (x, y, z, element) -> {
+                    final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                        collector.target(),
+                        () -> element,
+                        new Vector3d(x, y, z)
+                    ));
+                    collector.applicator()
+                        .apply(collector.target().get(), transformed);
+                    return true;
+                });
+                return;
+            }
+            // Parallel snapshot streams are still applied on the calling thread,
+            // collectors write to live volumes that are not thread safe
+            try (final Stream<VolumeElement<V, T>> stream = this.stream) {
+                stream.sequential().forEach(element -> {
+                    final W targetVolume = collector.target().get();
+                    final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                        collector.target(),
+                        element::type,
+                        element.position()
+                    ));
+                    collector.applicator()
+                        .apply(targetVolume, transformed);
+                });
+            }
+        }
+    }
+
+    @Override
+    public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
+        boolean doWork = true;
+        try (final Stream<VolumeElement<V, T>> stream = this.stream) {
+            for (final Iterator<VolumeElement<V, T>> iterator = stream.iterator(); doWork && iterator.hasNext(); ) {
                 final W targetVolume = collector.target().get();
+                final VolumeElement<V, T> element = iterator.next();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
                     collector.target(),
                     element::type,
                     element.position()
                 ));
-                collector.applicator()
+                final R apply = collector.applicator()
                     .apply(targetVolume, transformed);
-            });
+                doWork = predicate.test(apply);
+            }
         }
     }
 
     @Override
-    public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
-        boolean doWork = true;
-        for (final Iterator<VolumeElement<V, T>> iterator = this.stream.iterator(); doWork && iterator.hasNext(); ) {
-            final W targetVolume = collector.target().get();
-            final VolumeElement<V, T> element = iterator.next();
-            final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
-                collector.target(),
-                element::type,
-                element.position()
+    public void forEach(final VolumeConsumer<V, T> visitor) {
+        if (this.cursor != null) {
+            final V volume = this.volume();
+            this.cursor.visit(null, (x, y, z, element) -> {
+                visitor.consume(volume, element, x, y, z);
+                return true;
+            });
+            return;
+        }
+        try (final Stream<VolumeElement<V, T>> stream = this.stream) {
+            stream.forEach(element -> visitor.consume(
+                element.volume(),
+                element.type(),
+                element.position().x(),
+                element.position().y(),
+                element.position().z()
             ));
-            final R apply = collector.applicator()
-                .apply(targetVolume, transformed);
-            doWork = predicate.test(apply);
         }
     }
 
     @Override
-    public void forEach(final VolumeConsumer<V, T> visitor) {
-        this.stream.forEach(element -> visitor.consume(
-            element.volume(),
-            element.type(),
-            element.position().x(),
-            element.position().y(),
-            element.position().z()
-        ));
+    public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
+        try (final Stream<VolumeElement<V, T>> stream = this.stream) {
+            stream.forEach(consumer);
+        }
     }
 
-    @Override
-    public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
-        this.stream.forEach(consumer);
+    /**
+     * Runs a terminal operation on the element stream and closes it
+     * afterwards, such that streams holding on to resources, like chunk
+     * prefetching streams, release them even if the operation stops early.
+     */
+    private <R> R terminate(final Function<Stream<VolumeElement<V, T>>, R> operation) {
+        try (final Stream<VolumeElement<V, T>> stream = this.stream) {
+            return operation.apply(stream);
+        }
+    }
+
+    /**
+     * A reusable element supplier for cursor based operations, such that
+     * visiting an element does not allocate. Only valid for the duration of
+     * the predicate call it is passed to.
+     */
+    private static final class ElementSupplier<T> implements Supplier<T> {
+
+        private @Nullable T element;
+
+        ElementSupplier<T> set(final T element) {
+            this.element = element;
+            return this;
+        }
+
+        @Override
+        public T get() {
+            return this.element;
+        }
     }
 
 }
@@ -0,0 +1,346 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.cause.entity.SpawnType;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeCollector;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A volume stream application that is spread over as many server ticks as
+ * needed, spending at most a configured amount of time per tick.
+ *
+ * <p>The source region is split into slices of one target chunk column each,
+ * which are streamed and applied one after the other, such that every tick
+ * resumes where the previous one left off regardless of the order the source
+ * volume streams its elements in. Every chunk of a {@link ServerLevel} target
+ * that is written to is kept loaded with a ticket until the application
+ * completes or is cancelled.</p>
+ *
+ * @param <V> The source volume type
+ * @param <W> The target volume type
+ * @param <T> The element type
+ * @param <R> The applicator result type
+ */
+public final class TimeSlicedVolumeApplication<V extends Volume, W extends MutableVolume, T, R> {
+
+    private static final TicketType<Long> VOLUME_APPLICATION = TicketType.create("sponge_volume_application", Long::compareTo);
+    private static final AtomicLong ID_COUNTER = new AtomicLong();
+    // How many elements are applied between two checks of the time budget
+    private static final int BUDGET_CHECK_INTERVAL = 64;
+
+    private final long id = TimeSlicedVolumeApplication.ID_COUNTER.incrementAndGet();
+    private final Object source;
+    private final Supplier<SpawnType> spawnType;
+    private final BiFunction<Vector3i, Vector3i, ? extends VolumeStream<V, T>> slicer;
+    private final VolumeCollector<W, T, R> collector;
+    private final @Nullable Predicate<R> predicate;
+    private final long budgetNanos;
+    private final Vector3i min;
+    private final Vector3i max;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int chunksX;
+    private final int totalSlices;
+    private final Vector3i offset;
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+    private final LongSet ticketedChunks = new LongOpenHashSet();
+
+    private Iterator<VolumeElement<V, T>> slice = Collections.emptyIterator();
+    private int nextSlice;
+    private @Nullable ServerLevel ticketedLevel;
+    private @Nullable ScheduledTask task;
+    private long lastTargetChunk = ChunkPos.INVALID_CHUNK_POS;
+    private volatile boolean cancelled;
+    private volatile long processed;
+    private volatile int completedSlices;
+
+    private TimeSlicedVolumeApplication(final Object source, final Supplier<SpawnType> spawnType, final Vector3i min,
+        final Vector3i max, final Vector3i offset, final BiFunction<Vector3i, Vector3i, ? extends VolumeStream<V, T>> slicer,
+        final VolumeCollector<W, T, R> collector, final @Nullable Predicate<R> predicate, final Duration budget
+    ) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("The tick budget must be positive!");
+        }
+        this.source = Objects.requireNonNull(source, "source");
+        this.spawnType = Objects.requireNonNull(spawnType, "spawnType");
+        this.slicer = Objects.requireNonNull(slicer, "slicer");
+        this.collector = Objects.requireNonNull(collector, "collector");
+        this.predicate = predicate;
+        this.budgetNanos = budget.toNanos();
+        this.min = min;
+        this.max = max;
+        this.offset = offset;
+        this.minChunkX = (min.x() + offset.x()) >> 4;
+        this.minChunkZ = (min.z() + offset.z()) >> 4;
+        this.chunksX = ((max.x() + offset.x()) >> 4) - this.minChunkX + 1;
+        this.totalSlices = this.chunksX * (((max.z() + offset.z()) >> 4) - this.minChunkZ + 1);
+    }
+
+    /**
+     * Starts applying the region between {@code min} and {@code max} of a
+     * source volume to the target of the given collector. The slicer is
+     * called once per target chunk column with the source bounds of that
+     * column, typically by delegating to one of the stream operations of the
+     * source volume.
+     *
+     * @param source The source volume, used as cause of the changes
+     * @param spawnType The spawn type of entities spawned by the application
+     * @param min The minimum source position
+     * @param max The maximum source position
+     * @param offset The offset the collector translates source positions by,
+     *     used to align slices with the chunks of the target
+     * @param slicer The function streaming a part of the source region
+     * @param collector The collector
+     * @param predicate The predicate to stop applying early, or null
+     * @param budget The time budget per tick
+     * @param <V> The source volume type
+     * @param <W> The target volume type
+     * @param <T> The element type
+     * @param <R> The applicator result type
+     * @return The running application
+     */
+    public static <V extends Volume, W extends MutableVolume, T, R> TimeSlicedVolumeApplication<V, W, T, R> start(
+        final Object source, final Supplier<SpawnType> spawnType, final Vector3i min, final Vector3i max, final Vector3i offset,
+        final BiFunction<Vector3i, Vector3i, ? extends VolumeStream<V, T>> slicer, final VolumeCollector<W, T, R> collector,
+        final @Nullable Predicate<R> predicate, final Duration budget
+    ) {
+        final TimeSlicedVolumeApplication<V, W, T, R> application = new TimeSlicedVolumeApplication<>(source, spawnType,
+            min, max, offset, slicer, collector, predicate, Objects.requireNonNull(budget, "budget"));
+        application.task = Sponge.server().scheduler().submit(Task.builder()
+            .plugin(Launch.instance().commonPlugin())
+            .interval(Ticks.single())
+            .execute(application::tick)
+            .build(), "Sponge Volume Application #" + application.id);
+        return application;
+    }
+
+    /**
+     * Gets the future completed with the number of applied elements once the
+     * source region is exhausted or the predicate requested to stop. The
+     * future is always completed on the main thread.
+     *
+     * @return The completion future
+     */
+    public CompletableFuture<Long> completion() {
+        return this.completion;
+    }
+
+    public long processed() {
+        return this.processed;
+    }
+
+    /**
+     * Gets the approximate progress of this application, between {@code 0}
+     * and {@code 1}, based on the number of chunk slices applied so far.
+     *
+     * @return The progress
+     */
+    public double progress() {
+        if (this.completion.isDone()) {
+            return 1.0D;
+        }
+        return Math.min(1.0D, this.completedSlices / (double) this.totalSlices);
+    }
+
+    /**
+     * Cancels this application. Elements already applied are left as is.
+     *
+     * <p>On the main thread, the application is stopped before this method
+     * returns. From any other thread, no further slice is started, but the
+     * completion future is only completed on the next tick.</p>
+     *
+     * @return True if this call cancelled the application
+     */
+    public boolean cancel() {
+        if (this.cancelled || this.completion.isDone()) {
+            return false;
+        }
+        this.cancelled = true;
+        if (Sponge.server().onMainThread()) {
+            this.finish(new CancellationException("Volume application was cancelled"));
+        }
+        return true;
+    }
+
+    private void tick() {
+        if (this.cancelled) {
+            this.finish(new CancellationException("Volume application was cancelled"));
+            return;
+        }
+        if (this.completion.isDone()) {
+            this.finish(null);
+            return;
+        }
+        final long deadline = System.nanoTime() + this.budgetNanos;
+        final boolean done;
+        // Completion is only signalled once the phase context is closed, such
+        // that dependents observe the block changes of this tick as processed
+        try (final PhaseContext<@NonNull ?> context = PluginPhase.State.VOLUME_STREAM_APPLICATION
+            .createPhaseContext(PhaseTracker.getInstance())
+            .spawnType(this.spawnType)
+            .source(this.source)
+        ) {
+            context.buildAndSwitch();
+            done = this.applyUntil(deadline);
+        } catch (final Throwable t) {
+            this.finish(t);
+            return;
+        }
+        if (done) {
+            this.finish(null);
+        }
+    }
+
+    private boolean applyUntil(final long deadline) {
+        int sinceCheck = 0;
+        while (this.nextElement()) {
+            if (!this.applyNext()) {
+                return true;
+            }
+            if (++sinceCheck == TimeSlicedVolumeApplication.BUDGET_CHECK_INTERVAL) {
+                sinceCheck = 0;
+                if (this.cancelled || System.nanoTime() >= deadline) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean nextElement() {
+        while (!this.slice.hasNext()) {
+            if (this.nextSlice == this.totalSlices) {
+                this.completedSlices = this.totalSlices;
+                return false;
+            }
+            this.completedSlices = this.nextSlice;
+            final int chunkX = this.minChunkX + this.nextSlice % this.chunksX;
+            final int chunkZ = this.minChunkZ + this.nextSlice / this.chunksX;
+            this.nextSlice++;
+            final Vector3i sliceMin = new Vector3i(
+                Math.max(this.min.x(), (chunkX << 4) - this.offset.x()),
+                this.min.y(),
+                Math.max(this.min.z(), (chunkZ << 4) - this.offset.z())
+            );
+            final Vector3i sliceMax = new Vector3i(
+                Math.min(this.max.x(), (chunkX << 4) + 15 - this.offset.x()),
+                this.max.y(),
+                Math.min(this.max.z(), (chunkZ << 4) + 15 - this.offset.z())
+            );
+            this.slice = this.slicer.apply(sliceMin, sliceMax).toStream().iterator();
+        }
+        return true;
+    }
+
+    private boolean applyNext() {
+        final VolumeElement<V, T> element = this.slice.next();
+        final W targetVolume = this.collector.target().get();
+        final VolumeElement<W, T> transformed = this.collector.positionTransform().apply(VolumeElement.of(
+            this.collector.target(),
+            element::type,
+            element.position()
+        ));
+        if (targetVolume instanceof ServerLevel) {
+            this.ticket((ServerLevel) targetVolume, transformed.position());
+        }
+        final R result = this.collector.applicator().apply(targetVolume, transformed);
+        this.processed++;
+        return this.predicate == null || this.predicate.test(result);
+    }
+
+    private void ticket(final ServerLevel level, final Vector3d position) {
+        final long chunk = ChunkPos.asLong(position.floorX() >> 4, position.floorZ() >> 4);
+        if (chunk == this.lastTargetChunk) {
+            return;
+        }
+        this.lastTargetChunk = chunk;
+        if (this.ticketedLevel != null && this.ticketedLevel != level) {
+            this.releaseTickets();
+        }
+        this.ticketedLevel = level;
+        if (this.ticketedChunks.add(chunk)) {
+            level.getChunkSource().addRegionTicket(TimeSlicedVolumeApplication.VOLUME_APPLICATION, new ChunkPos(chunk), 1, this.id);
+        }
+    }
+
+    private void releaseTickets() {
+        if (this.ticketedLevel != null) {
+            for (final long chunk : this.ticketedChunks) {
+                this.ticketedLevel.getChunkSource().removeRegionTicket(TimeSlicedVolumeApplication.VOLUME_APPLICATION, new ChunkPos(chunk), 1, this.id);
+            }
+        }
+        this.ticketedChunks.clear();
+        this.ticketedLevel = null;
+        this.lastTargetChunk = ChunkPos.INVALID_CHUNK_POS;
+    }
+
+    private void finish(final @Nullable Throwable error) {
+        if (this.task != null) {
+            this.task.cancel();
+        }
+        this.releaseTickets();
+        if (error == null) {
+            this.completion.complete(this.processed);
+        } else {
+            if (!(error instanceof CancellationException)) {
+                SpongeCommon.logger().error("Failed to apply volume stream after {} elements", this.processed, error);
+            }
+            this.completion.completeExceptionally(error);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * A primitive, allocation free way of visiting every element a
+ * {@link SpongeVolumeStream} would otherwise produce as boxed
+ * {@link org.spongepowered.api.world.volume.stream.VolumeElement}s.
+ *
+ * @param <T> The element type
+ */
+@FunctionalInterface
+public interface VolumeCursor<T> {
+
+    /**
+     * Visits the elements of the volume in stream order.
+     *
+     * @param filter An optional element filter, implementations may use it to
+     *     skip entire regions that cannot contain a matching element
+     * @param visitor The visitor
+     * @return False if the visitor requested to stop early
+     */
+    boolean visit(@Nullable Predicate<? super T> filter, Visitor<T> visitor);
+
+    @FunctionalInterface
+    interface Visitor<T> {
+
+        /**
+         * Visits a single element.
+         *
+         * @param x The x position
+         * @param y The y position
+         * @param z The z position
+         * @param element The element
+         * @return True to continue visiting
+         */
+        boolean visit(int x, int y, int z, T element);
+    }
+}
@@ -28,6 +28,7 @@
 import net.minecraft.core.Registry;
 import net.minecraft.data.BuiltinRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.util.Tuple;
 import net.minecraft.world.level.ChunkPos;
@@ -57,30 +58,39 @@
 import org.spongepowered.api.world.volume.stream.VolumeStream;
 import org.spongepowered.common.accessor.world.level.block.entity.BlockEntityAccessor;
 import org.spongepowered.common.accessor.world.level.chunk.ChunkBiomeContainerAccessor;
+import org.spongepowered.common.applaunch.config.common.WorldCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.volume.buffer.biome.ObjectArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class VolumeStreamUtils {
 
@@ -373,52 +383,248 @@ private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElem
         final ChunkCursor minCursor = new ChunkCursor(min);
         final ChunkCursor maxCursor = new ChunkCursor(max);
 
-        return chunk -> {
-            final ChunkPos pos = chunk.getPos();
+        return chunk -> StreamSupport.stream(new SectionElementSpliterator<>(chunk, elementAccessor, minCursor, maxCursor), false);
+    }
+
+    /**
+     * Visits the block states of the given chunk within the bounds described
+     * by the cursors, section by section, without allocating positions.
+     *
+     * @param chunk The chunk
+     * @param minCursor The minimum bound
+     * @param maxCursor The maximum bound
+     * @param filter An optional state filter, sections whose palette cannot
+     *     contain a matching state are skipped entirely
+     * @param visitor The visitor
+     * @return False if the visitor requested to stop early
+     */
+    static boolean visitBlockStates(final ChunkAccess chunk, final ChunkCursor minCursor, final ChunkCursor maxCursor,
+        final @Nullable Predicate<? super BlockState> filter, final VolumeCursor.Visitor<BlockState> visitor
+    ) {
+        final ChunkPos pos = chunk.getPos();
+        final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
+        final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16;
+        final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
+        final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16;
+        final int chunkMinX = pos.x << 4;
+        final int chunkMinZ = pos.z << 4;
+
+        for (final @Nullable LevelChunkSection section : chunk.getSections()) {
+            if (section == null) {
+                continue;
+            }
+            final int sectionY = section.bottomBlockY();
+            if (sectionY < minCursor.ySection || sectionY > maxCursor.ySection) {
+                continue;
+            }
+            if (filter != null && !section.maybeHas(filter::test)) {
+                continue;
+            }
+            final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
+            final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset + 1 : 16;
+            for (int z = zStart; z < zEnd; z++) {
+                for (int x = xStart; x < xEnd; x++) {
+                    for (int y = yStart; y < yEnd; y++) {
+                        final BlockState state = section.getBlockState(x, y, z);
+                        if (filter != null && !filter.test(state)) {
+                            continue;
+                        }
+                        if (!visitor.visit(chunkMinX + x, sectionY + y, chunkMinZ + z, state)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
 
-            final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
-            final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-            final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
-            final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-
-            final int chunkMinX = pos.x << 4;
-            final int chunkMinZ = pos.z << 4;
-
-            return Arrays.stream(chunk.getSections())
-                .filter(Objects::nonNull)
-                .filter(chunkSection -> chunkSection.bottomBlockY() >= minCursor.ySection && chunkSection.bottomBlockY() <= maxCursor.ySection)
-                .flatMap(
-                chunkSection -> IntStream.range(zStart, zEnd)
-                    .mapToObj(z -> IntStream.range(xStart, xEnd)
-                        .mapToObj(x -> {
-                            final int sectionY = chunkSection.bottomBlockY();
-                            final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
-                            final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset + 1 : 16; // plus 1 because of IntStream range exclusive
-                            return IntStream.range(yStart, yEnd)
-                                .mapToObj(y ->
-                                    {
-                                        final int adjustedX = x + chunkMinX;
-                                        final int adjustedY = y + sectionY;
-                                        final int adjustedZ = z + chunkMinZ;
-
-                                        final BlockPos blockPos = new BlockPos(adjustedX, adjustedY, adjustedZ);
-                                        final T apply = Objects.requireNonNull(elementAccessor.apply(chunk, chunkSection, blockPos), "Element cannot be null");
-                                        return new AbstractMap.SimpleEntry<>(blockPos, apply);
-                                    }
-                                );
-                        }))
-                    .flatMap(Function.identity())
-                    .flatMap(Function.identity())
-            );
+    @SuppressWarnings("unchecked")
+    private static <R extends Region<R>> VolumeCursor<org.spongepowered.api.block.BlockState> blockStateCursor(
+        final R ref, final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor, final Vector3i min, final Vector3i max
+    ) {
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+        return (filter, visitor) -> {
+            final @Nullable Predicate<? super BlockState> nativeFilter = filter == null
+                ? null
+                : state -> ((Predicate<Object>) filter).test(state);
+            final VolumeCursor.Visitor<BlockState> nativeVisitor = (x, y, z, state) ->
+                visitor.visit(x, y, z, (org.spongepowered.api.block.BlockState) state);
+            for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+                for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                    final @Nullable ChunkAccess chunk = chunkAccessor.apply(worldSupplier.get(), new ChunkPos(chunkX, chunkZ));
+                    if (chunk != null && !VolumeStreamUtils.visitBlockStates(chunk, minCursor, maxCursor, nativeFilter, nativeVisitor)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
         };
     }
 
+    /**
+     * Copies the sections of the requested area into immutable snapshots on
+     * the server thread, or the calling thread if the volume is not a server
+     * level, then creates a parallel stream over the snapshots, split per
+     * section, that no longer reads from the world.
+     */
+    private static <R extends Region<R>> VolumeStream<R, org.spongepowered.api.block.BlockState> generateBlockSnapshotStream(
+        final R ref, final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor, final Vector3i min, final Vector3i max
+    ) {
+        final List<BlockSectionSnapshot> snapshots;
+        if (ref instanceof ServerLevel && !((ServerLevel) ref).getServer().isSameThread()) {
+            // Live sections may only be read, and chunks only be loaded, on the server thread
+            snapshots = ((ServerLevel) ref).getServer()
+                .submit(() -> VolumeStreamUtils.copySections(ref, chunkAccessor, min, max))
+                .join();
+        } else {
+            snapshots = VolumeStreamUtils.copySections(ref, chunkAccessor, min, max);
+        }
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        return new SpongeVolumeStream<>(
+            snapshots.parallelStream().flatMap(snapshot -> snapshot.elements(worldSupplier)),
+            worldSupplier
+        );
+    }
+
+    private static <R extends Region<R>> List<BlockSectionSnapshot> copySections(
+        final R ref, final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor, final Vector3i min, final Vector3i max
+    ) {
+        final List<BlockSectionSnapshot> snapshots = new ArrayList<>();
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunk = chunkAccessor.apply(ref, new ChunkPos(chunkX, chunkZ));
+                if (chunk != null) {
+                    BlockSectionSnapshot.copy(chunk, min, max, snapshots);
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Iterates the elements of a chunk within bounds with primitive counters,
+     * rather than nested {@link IntStream} pipelines. The position and entry
+     * handed to the consumer are reused for every element, consumers have to
+     * copy the {@link BlockPos#immutable() position} they keep.
+     */
+    private static final class SectionElementSpliterator<T> extends Spliterators.AbstractSpliterator<Map.Entry<BlockPos, T>> {
+
+        private final ChunkAccess chunk;
+        private final LevelChunkSection[] sections;
+        private final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor;
+        private final ChunkCursor minCursor;
+        private final ChunkCursor maxCursor;
+        private final int xStart;
+        private final int xEnd;
+        private final int zStart;
+        private final int zEnd;
+        private final int chunkMinX;
+        private final int chunkMinZ;
+        private final BlockPos.MutableBlockPos blockPos = new BlockPos.MutableBlockPos();
+        private final AbstractMap.SimpleEntry<BlockPos, T> entry = new AbstractMap.SimpleEntry<>(this.blockPos, null);
+
+        private int sectionIndex = -1;
+        private @Nullable LevelChunkSection section;
+        private int yStart;
+        private int yEnd;
+        private int x;
+        private int y;
+        private int z;
+
+        SectionElementSpliterator(final ChunkAccess chunk, final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor,
+            final ChunkCursor minCursor, final ChunkCursor maxCursor
+        ) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.chunk = chunk;
+            this.sections = chunk.getSections();
+            this.elementAccessor = elementAccessor;
+            this.minCursor = minCursor;
+            this.maxCursor = maxCursor;
+            final ChunkPos pos = chunk.getPos();
+            this.xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
+            this.xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16;
+            this.zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
+            this.zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16;
+            this.chunkMinX = pos.x << 4;
+            this.chunkMinZ = pos.z << 4;
+        }
+
+        private boolean nextSection() {
+            while (++this.sectionIndex < this.sections.length) {
+                final @Nullable LevelChunkSection next = this.sections[this.sectionIndex];
+                if (next == null) {
+                    continue;
+                }
+                final int sectionY = next.bottomBlockY();
+                if (sectionY < this.minCursor.ySection || sectionY > this.maxCursor.ySection) {
+                    continue;
+                }
+                this.section = next;
+                this.yStart = sectionY == this.minCursor.ySection ? this.minCursor.yOffset : 0;
+                this.yEnd = sectionY == this.maxCursor.ySection ? this.maxCursor.yOffset + 1 : 16;
+                this.x = this.xStart;
+                this.y = this.yStart;
+                this.z = this.zStart;
+                return this.xStart < this.xEnd && this.zStart < this.zEnd && this.yStart < this.yEnd;
+            }
+            this.section = null;
+            return false;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Map.Entry<BlockPos, T>> action) {
+            if (this.section == null || this.z >= this.zEnd) {
+                boolean found = false;
+                while (!found && this.sectionIndex < this.sections.length) {
+                    found = this.nextSection();
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            final LevelChunkSection current = Objects.requireNonNull(this.section);
+            this.blockPos.set(this.x + this.chunkMinX, this.y + current.bottomBlockY(), this.z + this.chunkMinZ);
+            final T apply = Objects.requireNonNull(this.elementAccessor.apply(this.chunk, current, this.blockPos), "Element cannot be null");
+            // Same ordering as before: z, then x, then y as the innermost coordinate
+            if (++this.y >= this.yEnd) {
+                this.y = this.yStart;
+                if (++this.x >= this.xEnd) {
+                    this.x = this.xStart;
+                    this.z++;
+                }
+            }
+            this.entry.setValue(apply);
+            action.accept(this.entry);
+            return true;
+        }
+    }
+
     public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateBlockStream(
         final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options
     ) {
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
+        return VolumeStreamUtils.generateBlockStream(reader, min, max, options,
+            VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()));
+    }
 
+    private static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateBlockStream(
+        final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options,
+        final BiFunction<W, ChunkPos, @Nullable ChunkAccess> chunkAccessor
+    ) {
+        // Options requested by the stream itself take precedence over the configured defaults
+        final boolean offThread = reader instanceof ServerLevel && !((ServerLevel) reader).getServer().isSameThread();
+        final WorldCategory config = SpongeConfigs.getCommon().get().world;
+        if (SpongeStreamOptions.isParallelSnapshot(options)
+            || offThread && !SpongeStreamOptions.isAsyncLoading(options) && config.parallelVolumeStreamSnapshots) {
+            return VolumeStreamUtils.generateBlockSnapshotStream((W) reader, chunkAccessor, min, max);
+        }
+        if (offThread && (SpongeStreamOptions.isAsyncLoading(options) || config.asyncVolumeStreamLoading)) {
+            return VolumeStreamUtils.generatePrefetchingBlockStream((ServerLevel) reader, min, max, options.loadingStyle().generateArea());
+        }
         final boolean shouldCarbonCopy = options.carbonCopy();
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
@@ -427,7 +633,7 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        final VolumeStream<W, org.spongepowered.api.block.BlockState> stream = VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
             min,
             max,
             options,
@@ -436,7 +642,7 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // IdentityFunction
             VolumeStreamUtils.getOrCopyBlockState(shouldCarbonCopy, backingVolume),
             // ChunkAccessor
-            VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()),
+            chunkAccessor,
             // Biome by block position
             (key, biome) -> key,
             // Entity Accessor
@@ -444,6 +650,42 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // Filtered Position Entity Accessor
             VolumeStreamUtils.getBlockStateFromThisOrCopiedVolume(shouldCarbonCopy, backingVolume)
         );
+        if (shouldCarbonCopy) {
+            return stream;
+        }
+        // Reading straight from the world, so terminal operations can visit the chunk sections directly
+        return new SpongeVolumeStream<>(
+            stream.toStream(),
+            VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World"),
+            VolumeStreamUtils.blockStateCursor((W) reader, chunkAccessor, min, max)
+        );
+    }
+
+    /**
+     * Creates a block state stream that loads, and generates if the
+     * {@link StreamOptions#loadingStyle() loading style} requests it, the
+     * chunks it covers through the chunk system in the background. The
+     * sections of every chunk are copied on the server thread as soon as it
+     * is available, and its elements yielded right away, in chunk completion
+     * order. Consuming the stream blocks until the next chunk is available,
+     * closing it stops loading the chunks not consumed yet.
+     */
+    private static <R extends Region<R>> VolumeStream<R, org.spongepowered.api.block.BlockState> generatePrefetchingBlockStream(
+        final ServerLevel level, final Vector3i min, final Vector3i max, final boolean generate
+    ) {
+        final ChunkPrefetcher.Prefetch<List<BlockSectionSnapshot>> chunks = ChunkPrefetcher.iterate(level, min, max, generate, ChunkPrefetcher.DEFAULT_WINDOW,
+            chunk -> {
+                final List<BlockSectionSnapshot> snapshots = new ArrayList<>();
+                BlockSectionSnapshot.copy(chunk, min, max, snapshots);
+                return snapshots;
+            });
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((R) level, "World");
+        return new SpongeVolumeStream<>(
+            StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(chunks::close)
+                .flatMap(snapshots -> snapshots.stream().flatMap(snapshot -> snapshot.elements(worldSupplier))),
+            worldSupplier
+        );
     }
 
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
@@ -618,7 +860,8 @@ private static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeSt
         // separated from the volume target in the event of transformational operations being run on the VolumeStream
         // itself.
         final BiConsumer<Map.Entry<BlockPos, MC>, Set<KeyReference>> entryConsumer = (entry, poses) -> {
-            final BlockPos pos = entry.getKey();
+            // Section iteration reuses a mutable position for every entry
+            final BlockPos pos = entry.getKey().immutable();
             final KeyReference keyRef = entityToKey.apply(pos, entry.getValue());
             poses.add(keyRef);
             identityFunction.accept(keyRef, entry.getValue());
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -49,10 +50,15 @@
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.WorldCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.SectionedBlockApplicator;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
+import org.spongepowered.common.world.volume.TimeSlicedVolumeApplication;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
 import org.spongepowered.common.world.volume.buffer.archetype.blockentity.MutableMapBlockEntityArchetypeBuffer;
@@ -62,10 +68,12 @@
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -266,17 +274,63 @@ public void applyToWorld(
     ) {
         Objects.requireNonNull(target, "Target world cannot be null");
         Objects.requireNonNull(placement, "Target position cannot be null");
+        final WorldCategory config = SpongeConfigs.getCommon().get().world;
+        if (config.timeSlicedArchetypePlacement) {
+            TimeSlicedVolumeApplication.start(
+                this,
+                spawnContext,
+                this.min(),
+                this.max(),
+                placement,
+                (min, max) -> this.blockStateStream(min, max, StreamOptions.lazily()),
+                VolumeCollectors.of(
+                    target,
+                    VolumePositionTranslators.relativeTo(placement),
+                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
+                ),
+                null,
+                Duration.ofMillis(Math.max(1, config.volumeApplicationTickBudget))
+            ).completion().whenComplete((applied, error) -> {
+                if (error == null) {
+                    this.applyContentsToWorld(target, placement, spawnContext, false);
+                } else if (error instanceof CancellationException) {
+                    // Only part of the blocks were placed, the block entities and entities
+                    // would be spawned into a half finished structure
+                    SpongeCommon.logger().warn("Archetype placement at {} in {} was cancelled before all blocks were placed, "
+                        + "skipping its biomes, block entities and entities", placement, target.key());
+                } else {
+                    SpongeCommon.logger().error("Archetype placement at {} in {} failed, skipping its biomes, block entities "
+                        + "and entities", placement, target.key(), error);
+                }
+            });
+            return;
+        }
+        this.applyContentsToWorld(target, placement, spawnContext, true);
+    }
+
+    private void applyContentsToWorld(
+        final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext, final boolean blocks
+    ) {
         try (final PhaseContext<@NonNull ?> context = PluginPhase.State.VOLUME_STREAM_APPLICATION
             .createPhaseContext(PhaseTracker.SERVER)
             .spawnType(spawnContext)
             .source(this)) {
             context.buildAndSwitch();
-            this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
-                .apply(VolumeCollectors.of(
-                    target,
-                    VolumePositionTranslators.relativeTo(placement),
-                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
-                ));
+            // Blocks are skipped when already placed by a time sliced application
+            if (blocks && SpongeConfigs.getCommon().get().optimizations.bulkVolumeApplication) {
+                SectionedBlockApplicator.apply(
+                    this.blockStateStream(this.min(), this.max(), StreamOptions.lazily()),
+                    (ServerLevel) target,
+                    placement
+                );
+            } else if (blocks) {
+                this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
+                    .apply(VolumeCollectors.of(
+                        target,
+                        VolumePositionTranslators.relativeTo(placement),
+                        VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
+                    ));
+            }
 
             this.biomeStream(this.min(), this.max(), StreamOptions.lazily())
                 .apply(VolumeCollectors.of(
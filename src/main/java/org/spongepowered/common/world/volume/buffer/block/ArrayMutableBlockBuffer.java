@@ -40,7 +40,7 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
-import org.spongepowered.common.world.schematic.MutableBimapPalette;
+import org.spongepowered.common.world.schematic.ArrayBlockStatePalette;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3d;
@@ -62,7 +62,7 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Bloc
 
     public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size) {
         this(
-            new MutableBimapPalette<>(
+            new ArrayBlockStatePalette(
                 PaletteTypes.BLOCK_STATE_PALETTE.get(),
                 Sponge.game().registry(RegistryTypes.BLOCK_TYPE)
             ),
@@ -150,6 +150,10 @@ public boolean removeBlock(final int x, final int y, final int z) {
     public BlockState block(final int x, final int y, final int z) {
         this.checkRange(x, y, z);
         final int id = this.data.get(this.getIndex(x, y, z));
+        if (this.palette instanceof ArrayBlockStatePalette) {
+            final @Nullable BlockState state = ((ArrayBlockStatePalette) this.palette).state(id);
+            return state == null ? this.defaultState.get(this.registries).defaultState() : state;
+        }
         return this.palette.get(id, this.registries)
             .orElseGet(() -> this.defaultState.get(this.registries).defaultState());
     }
@@ -216,7 +220,10 @@ public net.minecraft.world.level.block.state.BlockState getBlock(final BlockPos
     }
 
     public ArrayMutableBlockBuffer copy() {
-        return  new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
+        final Palette<BlockState, BlockType> palette = this.palette instanceof ArrayBlockStatePalette
+            ? ((ArrayBlockStatePalette) this.palette).copy()
+            : this.palette;
+        return new ArrayMutableBlockBuffer(palette, this.data.copyOf(), this.start, this.size);
     }
 
     public BlockBackingData getCopiedBackingData() {
@@ -33,12 +33,16 @@
 public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
+    private final boolean parallelSnapshot;
+    private final boolean asyncLoading;
     private final LoadingStyle loadingStyle;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.parallelSnapshot = builder.parallelSnapshot;
+        this.asyncLoading = builder.asyncLoading;
     }
 
     @Override
@@ -51,6 +55,36 @@ public LoadingStyle loadingStyle() {
         return this.loadingStyle;
     }
 
+    /**
+     * Gets whether the stream should copy the requested area into an
+     * immutable snapshot up front and be processed in parallel, detached
+     * from the live world.
+     *
+     * @return True if the stream is a parallel snapshot
+     */
+    public boolean parallelSnapshot() {
+        return this.parallelSnapshot;
+    }
+
+    public static boolean isParallelSnapshot(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions && ((SpongeStreamOptions) options).parallelSnapshot;
+    }
+
+    /**
+     * Gets whether world streams consumed off of the server thread should
+     * have their chunks loaded by the chunk system in the background, and
+     * yield the elements of every chunk as soon as it is available.
+     *
+     * @return True if chunks are loaded asynchronously
+     */
+    public boolean asyncLoading() {
+        return this.asyncLoading;
+    }
+
+    public static boolean isAsyncLoading(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions && ((SpongeStreamOptions) options).asyncLoading;
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
         if (this == o) {
@@ -60,12 +94,15 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies
+            && this.parallelSnapshot == that.parallelSnapshot
+            && this.asyncLoading == that.asyncLoading
+            && this.loadingStyle == that.loadingStyle;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.parallelSnapshot, this.asyncLoading, this.loadingStyle);
     }
 
     @Override
@@ -76,6 +113,8 @@ public String toString() {
             "]"
         )
             .add("copies=" + this.copies)
+            .add("parallelSnapshot=" + this.parallelSnapshot)
+            .add("asyncLoading=" + this.asyncLoading)
             .add("loadingStyle=" + this.loadingStyle)
             .toString();
     }
@@ -31,6 +31,8 @@
 public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
+    boolean parallelSnapshot = false;
+    boolean asyncLoading = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
 
     @Override
@@ -39,6 +41,45 @@ public StreamOptions.Builder setCarbonCopy(final boolean copies) {
         return this;
     }
 
+    /**
+     * Sets whether read-only streams should copy the requested area into an
+     * immutable snapshot on creation, and then process it in parallel per
+     * chunk section, off of the live world. The area of a server level is
+     * copied on the server thread, blocking the calling thread until it is.
+     * Applying such a stream to a collector is always done sequentially on
+     * the calling thread.
+     *
+     * <p>This option is internal to Sponge, there is no API equivalent.
+     * Servers may enable this for every stream created off of the server
+     * thread through the {@code world.parallel-volume-stream-snapshots}
+     * setting. It cannot be combined with
+     * {@link #setAsyncLoading(boolean) asynchronous loading}.</p>
+     *
+     * @param parallelSnapshot Whether to snapshot and parallelize
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setParallelSnapshot(final boolean parallelSnapshot) {
+        this.parallelSnapshot = parallelSnapshot;
+        return this;
+    }
+
+    /**
+     * Sets whether block state streams of worlds that are consumed off of the
+     * server thread should load their chunks in the background, yielding the
+     * elements of each chunk as soon as it has loaded, rather than loading
+     * every chunk synchronously. Streams created on the server thread ignore
+     * this option. Servers may enable this for every stream through the
+     * {@code world.async-volume-stream-loading} setting. It cannot be
+     * combined with {@link #setParallelSnapshot(boolean) parallel snapshots}.
+     *
+     * @param asyncLoading Whether to load chunks asynchronously
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setAsyncLoading(final boolean asyncLoading) {
+        this.asyncLoading = asyncLoading;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle style) {
         this.loadingStyle = Objects.requireNonNull(style, "LoadingStyle cannot be null!");
@@ -48,12 +89,17 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
+        this.parallelSnapshot = false;
+        this.asyncLoading = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
         return this;
     }
 
     @Override
     public StreamOptions build() {
+        if (this.parallelSnapshot && this.asyncLoading) {
+            throw new IllegalStateException("Parallel snapshots copy the whole area up front and cannot be combined with asynchronous loading!");
+        }
         return new SpongeStreamOptions(this);
     }
 }
@@ -200,7 +200,7 @@ public DataContainer toContainer() {
     }
 
     public ItemStackSnapshot itemStack$createSnapshot() {
-        return new SpongeItemStackSnapshot((ItemStack) this);
+        return SpongeItemStackSnapshot.of((ItemStack) this);
     }
 
     public boolean itemStack$equalTo(final ItemStack that) {
@@ -41,6 +41,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkSource;
@@ -88,6 +89,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.level.chunk.SpongeEmptyChunk;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
@@ -349,6 +351,7 @@ public Optional<Entity> createEntity(final DataContainer container, final Vector
         return Optional.ofNullable(((LevelBridge) this).bridge$createEntity(container, position, null));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i max, final Vector3i origin) {
         final Vector3i rawVolMin = Objects.requireNonNull(min, "min").min(Objects.requireNonNull(max, "max"));
@@ -357,12 +360,17 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
         final Vector3i relativeMin = rawVolMin.sub(Objects.requireNonNull(origin, "origin"));
         final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(relativeMin, size, this);
 
-        this.blockStateStream(min, max, StreamOptions.lazily())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyBlocks()
-            ));
+        VolumeStream<W, org.spongepowered.api.block.BlockState> blocks = this.blockStateStream(min, max, StreamOptions.lazily());
+        if (blocks instanceof SpongeVolumeStream) {
+            // The volume starts out as air, sections without any other block need not be visited at all
+            blocks = ((SpongeVolumeStream<W, org.spongepowered.api.block.BlockState>) blocks)
+                .filterTypes(state -> ((BlockState) state).getBlock() != Blocks.AIR);
+        }
+        blocks.apply(VolumeCollectors.of(
+            volume,
+            VolumePositionTranslators.offset(origin),
+            VolumeApplicators.applyBlocks()
+        ));
 
         this.blockEntityStream(min, max, StreamOptions.lazily())
             .map((world, blockEntity, x, y, z) -> blockEntity.get().createArchetype())
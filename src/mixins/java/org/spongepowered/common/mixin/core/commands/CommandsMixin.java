@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.core.commands;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.builder.ArgumentBuilder;
@@ -36,8 +38,10 @@
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
@@ -49,9 +53,11 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.commands.CommandSourceStackBridge;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
+import org.spongepowered.common.command.brigadier.dispatcher.CommandTreeFingerprint;
 import org.spongepowered.common.command.brigadier.dispatcher.DelegatingCommandDispatcher;
 import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
 import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
@@ -68,6 +74,7 @@
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 
 @Mixin(Commands.class)
@@ -87,6 +94,8 @@ public abstract class CommandsMixin implements CommandsBridge {
     private final WeakHashMap<ServerPlayer, Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
     private SpongeCommandManager impl$commandManager;
+    private @Nullable Cache<CommandTreeFingerprint, RootCommandNode<SharedSuggestionProvider>> impl$commandTreeCache;
+    private @Nullable RootCommandNode<SharedSuggestionProvider> impl$cachedCommandTree;
 
     // We prepare our own dispatcher and commands manager, to redirect registrations to our system
     @Redirect(method = "<init>", at = @At(
@@ -301,6 +310,19 @@ public abstract class CommandsMixin implements CommandsBridge {
             frame.pushCause(playerEntity);
             frame.addContext(EventContextKeys.SUBJECT, (Subject) playerEntity);
             final CommandCause sourceToUse = ((CommandSourceStackBridge) p_197052_3_).bridge$withCurrentCause();
+            final @Nullable Cache<CommandTreeFingerprint, RootCommandNode<SharedSuggestionProvider>> cache = this.impl$getCommandTreeCache();
+            final @Nullable CommandTreeFingerprint fingerprint;
+            if (cache != null && p_197052_2_ instanceof RootCommandNode) {
+                fingerprint = this.impl$fingerprint(p_197052_1_, (CommandSourceStack) sourceToUse, sourceToUse);
+                final @Nullable RootCommandNode<SharedSuggestionProvider> cached = cache.getIfPresent(fingerprint);
+                if (cached != null) {
+                    // Picked up by impl$sendCachedCommandTree
+                    this.impl$cachedCommandTree = cached;
+                    return;
+                }
+            } else {
+                fingerprint = null;
+            }
             try {
                 this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
                 // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
@@ -312,6 +334,57 @@ public abstract class CommandsMixin implements CommandsBridge {
             for (final CommandNode<SharedSuggestionProvider> node : this.impl$commandManager.getNonBrigadierSuggestions(sourceToUse)) {
                 p_197052_2_.addChild(node);
             }
+            if (fingerprint != null) {
+                // The tree is only ever read from here on, so it can be shared between players
+                cache.put(fingerprint, (RootCommandNode<SharedSuggestionProvider>) p_197052_2_);
+            }
+        }
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "NEW", args = "class=net/minecraft/network/protocol/game/ClientboundCommandsPacket"))
+    private ClientboundCommandsPacket impl$sendCachedCommandTree(final RootCommandNode<SharedSuggestionProvider> root) {
+        final @Nullable RootCommandNode<SharedSuggestionProvider> cached = this.impl$cachedCommandTree;
+        this.impl$cachedCommandTree = null;
+        return new ClientboundCommandsPacket(cached == null ? root : cached);
+    }
+
+    private @Nullable Cache<CommandTreeFingerprint, RootCommandNode<SharedSuggestionProvider>> impl$getCommandTreeCache() {
+        if (this.impl$commandTreeCache == null) {
+            final int size = SpongeConfigs.getCommon().get().commands.commandTreeCacheSize;
+            if (size <= 0) {
+                return null;
+            }
+            this.impl$commandTreeCache = Caffeine.newBuilder().maximumSize(size).build();
+        }
+        return this.impl$commandTreeCache;
+    }
+
+    /*
+     * Walks the dispatcher the same way fillUsableCommands does, recording the
+     * nodes the source can use. Players with the same usable nodes are sent
+     * identical trees.
+     */
+    private CommandTreeFingerprint impl$fingerprint(final CommandNode<CommandSourceStack> root, final CommandSourceStack source,
+            final CommandCause cause) {
+        final List<Object> usable = new ArrayList<>();
+        final Set<CommandNode<CommandSourceStack>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.impl$collectUsableNodes(root, source, usable, visited);
+        // Separates the brigadier nodes from the non-brigadier ones
+        usable.add(this.impl$commandManager);
+        this.impl$commandManager.collectNonBrigadierSuggestionNodes(cause, usable);
+        return new CommandTreeFingerprint(usable);
+    }
+
+    private void impl$collectUsableNodes(final CommandNode<CommandSourceStack> parent, final CommandSourceStack source,
+            final List<Object> usable, final Set<CommandNode<CommandSourceStack>> visited) {
+        for (final CommandNode<CommandSourceStack> child : this.impl$getChildrenFromNode(parent)) {
+            if (!visited.add(child)) {
+                continue;
+            }
+            if (SpongeNodePermissionCache.canUse(parent instanceof RootCommandNode, this.impl$commandManager.getDispatcher(), child, source)) {
+                usable.add(child);
+                this.impl$collectUsableNodes(child, source, usable, visited);
+            }
         }
     }
 
@@ -27,10 +27,12 @@
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
@@ -57,6 +59,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
+    private @Nullable CompoundTag impl$serializedData;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -70,6 +73,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     @SuppressWarnings({"rawtypes", "unchecked"})
     public void bridge$mergeDeserialized(final DataManipulator.Mutable manipulator) {
+        this.impl$serializedData = null;
         if (this.impl$manipulator == null) {
             this.impl$manipulator = DataManipulator.mutableOf();
         }
@@ -89,6 +93,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     public void bridge$clear() {
         this.impl$manipulator = null;
         this.impl$failedData = HashMultimap.create();
+        this.impl$serializedData = null;
     }
 
     @Override
@@ -102,6 +107,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     public void bridge$invalidateFailedData() {
         this.impl$failedData = null;
+        this.impl$serializedData = null;
     }
 
     @Override
@@ -110,5 +116,21 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             this.impl$failedData  = HashMultimap.create();
         }
         this.impl$failedData.put(nameSpace, keyedData);
+        this.impl$serializedData = null;
+    }
+
+    @Override
+    public @Nullable CompoundTag bridge$getSerializedData() {
+        return this.impl$serializedData;
+    }
+
+    @Override
+    public void bridge$setSerializedData(final @Nullable CompoundTag serializedData) {
+        this.impl$serializedData = serializedData;
+    }
+
+    @Override
+    public void bridge$markDataDirty() {
+        this.impl$serializedData = null;
     }
 }
@@ -77,6 +77,7 @@
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.scoreboard.ScoreboardPacketQueue;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
 
 import java.io.IOException;
@@ -155,6 +156,11 @@ public Subject subject() {
         this.scheduler().tick();
     }
 
+    @Inject(method = "tickServer", at = @At(value = "RETURN"))
+    private void impl$onServerTickEnd(final CallbackInfo ci) {
+        ScoreboardPacketQueue.flushAll();
+    }
+
     @Override
     public CommandSourceStack bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -58,6 +58,7 @@
 import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
 import org.spongepowered.common.bridge.world.scores.ObjectiveBridge;
 import org.spongepowered.common.bridge.world.scores.ScoreBridge;
+import org.spongepowered.common.scoreboard.ScoreboardPacketQueue;
 import org.spongepowered.common.scoreboard.SpongeDisplaySlot;
 import org.spongepowered.common.scoreboard.SpongeObjective;
 import org.spongepowered.common.scoreboard.SpongeScore;
@@ -81,6 +82,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
     @Shadow protected abstract void shadow$setDirty();
 
     private final List<ServerPlayer> impl$players = new ArrayList<>();
+    private final ScoreboardPacketQueue impl$packetQueue = new ScoreboardPacketQueue(this::impl$sendNow, this.impl$players::size);
 
     // Update objective in display slot
 
@@ -201,6 +203,14 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$sendToPlayers(final Packet<?> packet) {
+        if (ScoreboardPacketQueue.isEnabled()) {
+            this.impl$packetQueue.enqueue(packet);
+            return;
+        }
+        this.impl$sendNow(packet);
+    }
+
+    private void impl$sendNow(final Packet<?> packet) {
         for (final ServerPlayer player: this.impl$players) {
             player.connection.send(packet);
         }
@@ -208,6 +218,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$addPlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.impl$packetQueue.flush();
         this.impl$players.add(player);
         if (sendPackets) {
             for (final PlayerTeam team : this.getPlayerTeams()) {
@@ -235,6 +246,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$removePlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.impl$packetQueue.flush();
         this.impl$players.remove(player);
         if (sendPackets) {
             this.impl$removeScoreboard(player);
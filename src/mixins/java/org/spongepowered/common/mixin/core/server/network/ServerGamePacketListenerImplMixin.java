@@ -28,8 +28,10 @@
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.ParseResults;
 import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.context.ParsedCommandNode;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.brigadier.tree.CommandNode;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import net.kyori.adventure.audience.Audience;
@@ -134,6 +136,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 @Mixin(ServerGamePacketListenerImpl.class)
@@ -201,8 +204,14 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
             if (mappingOptional.isPresent()) {
                 final CommandMapping mapping = mappingOptional.get();
                 if (mapping.registrar().canExecute(cause, mapping)) {
-                    final SuggestionsBuilder builder = CommandUtil.createSuggestionsForRawCommand(rawCommand, command, cause, mapping);
-                    this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), builder.build()));
+                    if (manager.completionService().shouldCompleteAsync(mapping)) {
+                        manager.completionService()
+                                .submit(this.player.getUUID(), () -> CommandUtil.createSuggestionsForRawCommand(rawCommand, command, cause, mapping).build())
+                                .thenAccept(suggestions -> this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), suggestions)));
+                    } else {
+                        final SuggestionsBuilder builder = CommandUtil.createSuggestionsForRawCommand(rawCommand, command, cause, mapping);
+                        this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), builder.build()));
+                    }
                 } else {
                     this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), Suggestions.empty().join()));
                 }
@@ -223,6 +232,28 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
         return SpongeCommandManager.get(this.server).getDispatcher().parse(command, (CommandSourceStack) source, true);
     }
 
+    @Redirect(method = "handleCustomCommandSuggestions",
+            at = @At(value = "INVOKE",
+                    target = "Lcom/mojang/brigadier/CommandDispatcher;getCompletionSuggestions(Lcom/mojang/brigadier/ParseResults;)Ljava/util/concurrent/CompletableFuture;",
+                    remap = false
+            )
+    )
+    private CompletableFuture<Suggestions> impl$completePluginCommandsAsync(final CommandDispatcher<CommandSourceStack> commandDispatcher,
+            final ParseResults<CommandSourceStack> parse) {
+        final SpongeCommandManager manager = SpongeCommandManager.get(this.server);
+        final List<ParsedCommandNode<CommandSourceStack>> nodes = parse.getContext().getNodes();
+        // Parsing already happened on the server thread, only the completers of plugin commands are moved off it
+        if (nodes.isEmpty()) {
+            return commandDispatcher.getCompletionSuggestions(parse);
+        }
+        final CommandNode<CommandSourceStack> command = nodes.get(0).getNode();
+        final @Nullable CommandMapping mapping = manager.commandMapping(command.getName()).orElse(null);
+        if (!manager.completionService().shouldCompleteAsync(mapping, command)) {
+            return commandDispatcher.getCompletionSuggestions(parse);
+        }
+        return manager.completionService().submit(this.player.getUUID(), () -> commandDispatcher.getCompletionSuggestions(parse).join());
+    }
+
     /**
      * Specifically hooks the reach distance to use the forge hook.
      */
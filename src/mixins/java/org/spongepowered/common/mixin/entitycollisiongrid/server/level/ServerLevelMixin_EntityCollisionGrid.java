@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entitycollisiongrid.server.level;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.bridge.entitycollision.EntityCollisionGridBridge;
+import org.spongepowered.common.bridge.world.level.LevelBridge;
+import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.world.level.entity.EntityCollisionGrid;
+
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin_EntityCollisionGrid implements EntityCollisionGridBridge {
+
+    // @formatter:off
+    @Shadow @Final private Int2ObjectMap<Entity> entitiesById;
+    // @formatter:on
+
+    private final EntityCollisionGrid collisionGrid$grid = new EntityCollisionGrid();
+    private long collisionGrid$gridCheckedAt = Long.MIN_VALUE;
+    private boolean collisionGrid$gridEnabled;
+
+    @Override
+    public @Nullable EntityCollisionGrid collision$getEntityGrid() {
+        final ServerLevel level = (ServerLevel) (Object) this;
+        final long time = level.getGameTime();
+        if (this.collisionGrid$gridCheckedAt != time) {
+            this.collisionGrid$gridCheckedAt = time;
+            final PrimaryLevelDataBridge levelData = (PrimaryLevelDataBridge) level.getLevelData();
+            this.collisionGrid$gridEnabled = !((LevelBridge) level).bridge$isFake() && levelData.bridge$valid()
+                && levelData.bridge$configAdapter().get().entityCollision.spatialGrid;
+            if (this.collisionGrid$gridEnabled) {
+                this.collisionGrid$grid.rebuild(this.entitiesById.values(), time);
+            } else {
+                this.collisionGrid$grid.clear();
+            }
+        }
+        return this.collisionGrid$gridEnabled ? this.collisionGrid$grid : null;
+    }
+
+}
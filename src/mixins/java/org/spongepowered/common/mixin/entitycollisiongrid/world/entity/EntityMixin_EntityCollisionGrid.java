@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entitycollisiongrid.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.entitycollision.CollisionGridEntityBridge;
+import org.spongepowered.common.world.level.entity.EntityCollisionGrid;
+
+@Mixin(Entity.class)
+public abstract class EntityMixin_EntityCollisionGrid implements CollisionGridEntityBridge {
+
+    private EntityCollisionGrid.@Nullable Entry collisionGrid$gridEntry;
+
+    @Inject(method = "setPosRaw", at = @At("RETURN"))
+    private void collisionGrid$updateGridCell(final double x, final double y, final double z, final CallbackInfo ci) {
+        if (this.collisionGrid$gridEntry != null) {
+            EntityCollisionGrid.onMove((Entity) (Object) this, this.collisionGrid$gridEntry, x, y, z);
+        }
+    }
+
+    @Override
+    public EntityCollisionGrid.@Nullable Entry collision$getGridEntry() {
+        return this.collisionGrid$gridEntry;
+    }
+
+    @Override
+    public void collision$setGridEntry(final EntityCollisionGrid.Entry entry) {
+        this.collisionGrid$gridEntry = entry;
+    }
+}
@@ -35,6 +35,7 @@
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
 import org.spongepowered.asm.mixin.Final;
@@ -45,10 +46,15 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.ContainerTrackingCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.inventory.InventoryMenuBridge;
 import org.spongepowered.common.bridge.world.inventory.container.MenuBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedSlotBridge;
+import org.spongepowered.common.bridge.world.item.TrackedItemStackBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -60,7 +66,7 @@
 import org.spongepowered.common.inventory.custom.SpongeInventoryMenu;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 @Mixin(AbstractContainerMenu.class)
@@ -79,13 +85,34 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
     // Detects if a mod overrides detectAndSendChanges
     private boolean impl$captureSuccess = false;
 
+    // Dirty slot tracking, see bridge$detectAndSendChanges
+    private final BitSet impl$dirtySlots = new BitSet();
+    private ItemStack @Nullable [] impl$seenStacks;
+    private int[] impl$seenCounts;
+    private int[] impl$seenModifications;
+    private int impl$fullScanInterval;
+    private int impl$detectionsSinceFullScan;
+
     @Override
     public boolean bridge$capturePossible() {
         return this.impl$captureSuccess;
     }
 
+    @Override
+    public void bridge$markSlotDirty(final int slotIndex) {
+        if (slotIndex >= 0) {
+            this.impl$dirtySlots.set(slotIndex);
+        }
+    }
+
     // Injects/Redirects -------------------------------------------------------------------------
 
+    @Inject(method = "addSlot", at = @At("RETURN"))
+    private void impl$trackAddedSlot(final Slot slot, final CallbackInfoReturnable<Slot> cir) {
+        ((TrackedSlotBridge) slot).bridge$setTrackingMenu(this);
+        this.impl$dirtySlots.set(slot.index);
+    }
+
     @Redirect(method = "doClick",
         at = @At(
             value = "INVOKE",
@@ -180,39 +207,33 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
 
         final SpongeInventoryMenu menu = ((MenuBridge)this).bridge$getMenu();
         // We first collect all differences and check if cancelled for readonly menu changes
-        final List<Integer> changes = new ArrayList<>();
-
-        for (int i = 0; i < this.slots.size(); ++i) {
-            final Slot slot = this.slots.get(i);
-            final ItemStack newStack = slot.getItem();
-            final ItemStack oldStack = this.lastSlots.get(i);
-            if (!ItemStack.matches(oldStack, newStack)) {
-                changes.add(i);
-            }
-        }
+        final @Nullable BitSet changes = this.impl$collectChangedSlots();
+        if (changes != null) {
+            // For each change
+            for (int i = changes.nextSetBit(0); i >= 0; i = changes.nextSetBit(i + 1)) {
+                final Slot slot = this.slots.get(i);
+                final ItemStack newStack = slot.getItem();
+                ItemStack oldStack = this.lastSlots.get(i);
 
-        // For each change
-        for (final Integer i : changes) {
-            final Slot slot = this.slots.get(i);
-            final ItemStack newStack = slot.getItem();
-            ItemStack oldStack = this.lastSlots.get(i);
-
-            // Only call Menu Callbacks when clicking
-            if (this.impl$isClicking && menu != null && !menu.onChange(newStack, oldStack, (org.spongepowered.api.item.inventory.Container) this, i, slot)) {
-                this.lastSlots.set(i, oldStack.copy());  // revert changes
-                this.impl$sendSlotContents(i, oldStack); // Send reverted slots to clients
-            } else {
-                this.impl$capture(i, newStack, oldStack); // Capture changes for inventory events
-
-                if (captureOnly) {
-                    continue;
-                }
-                // Perform vanilla logic - updating inventory stack - notify listeners
-                oldStack = newStack.isEmpty() ? ItemStack.EMPTY : newStack.copy();
-                this.lastSlots.set(i, oldStack);
-                // TODO forge checks !itemstack1.equals(itemstack, true) before doing this
-                for (final ContainerListener listener : this.containerListeners) {
-                    listener.slotChanged(((AbstractContainerMenu) (Object) this), i, oldStack);
+                // Only call Menu Callbacks when clicking
+                if (this.impl$isClicking && menu != null && !menu.onChange(newStack, oldStack, (org.spongepowered.api.item.inventory.Container) this, i, slot)) {
+                    this.lastSlots.set(i, oldStack.copy());  // revert changes
+                    this.impl$sendSlotContents(i, oldStack); // Send reverted slots to clients
+                    this.impl$dirtySlots.set(i); // the slot still differs from what was sent
+                } else {
+                    this.impl$capture(i, newStack, oldStack); // Capture changes for inventory events
+
+                    if (captureOnly) {
+                        this.impl$dirtySlots.set(i); // still needs to be sent
+                        continue;
+                    }
+                    // Perform vanilla logic - updating inventory stack - notify listeners
+                    oldStack = newStack.isEmpty() ? ItemStack.EMPTY : newStack.copy();
+                    this.lastSlots.set(i, oldStack);
+                    // TODO forge checks !itemstack1.equals(itemstack, true) before doing this
+                    for (final ContainerListener listener : this.containerListeners) {
+                        listener.slotChanged(((AbstractContainerMenu) (Object) this), i, oldStack);
+                    }
                 }
             }
         }
@@ -225,7 +246,58 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
         }
     }
 
-    private void impl$sendSlotContents(final Integer i, final ItemStack oldStack) {
+    /**
+     * Compares slots against the stacks last sent to listeners. With dirty
+     * slot tracking enabled only slots that were marked dirty, or whose stack
+     * was swapped out, resized or had its tag modified through one of the
+     * vanilla mutators (such as {@link ItemStack#hurt}) since the last
+     * detection, get the full {@link ItemStack#matches} comparison. Every so
+     * often all slots are compared anyway, for tags that were edited in place
+     * through a reference obtained earlier.
+     *
+     * @return The changed slot indices, or null if nothing changed
+     */
+    private @Nullable BitSet impl$collectChangedSlots() {
+        final int size = this.slots.size();
+        boolean fullScan = false;
+        if (this.impl$seenStacks == null || this.impl$seenStacks.length != size) {
+            final ContainerTrackingCategory config = SpongeConfigs.getCommon().get().optimizations.containerTracking;
+            this.impl$fullScanInterval = config.dirtySlotTracking ? Math.max(1, config.fullScanInterval) : 1;
+            this.impl$seenStacks = new ItemStack[size];
+            this.impl$seenCounts = new int[size];
+            this.impl$seenModifications = new int[size];
+            fullScan = true;
+        }
+        if (++this.impl$detectionsSinceFullScan >= this.impl$fullScanInterval) {
+            fullScan = true;
+        }
+        if (fullScan) {
+            this.impl$detectionsSinceFullScan = 0;
+        }
+
+        @Nullable BitSet changes = null;
+        for (int i = 0; i < size; ++i) {
+            final ItemStack newStack = this.slots.get(i).getItem();
+            if (!fullScan && !this.impl$dirtySlots.get(i)
+                && newStack == this.impl$seenStacks[i] && newStack.getCount() == this.impl$seenCounts[i]
+                && ((TrackedItemStackBridge) (Object) newStack).bridge$getModificationCount() == this.impl$seenModifications[i]) {
+                continue;
+            }
+            this.impl$seenStacks[i] = newStack;
+            this.impl$seenCounts[i] = newStack.getCount();
+            this.impl$seenModifications[i] = ((TrackedItemStackBridge) (Object) newStack).bridge$getModificationCount();
+            if (!ItemStack.matches(this.lastSlots.get(i), newStack)) {
+                if (changes == null) {
+                    changes = new BitSet(size);
+                }
+                changes.set(i);
+            }
+        }
+        this.impl$dirtySlots.clear();
+        return changes;
+    }
+
+    private void impl$sendSlotContents(final int i, final ItemStack oldStack) {
 
         for (final ContainerListener listener : this.containerListeners) {
             boolean isChangingQuantityOnly = true;
@@ -251,20 +323,23 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
         }
     }
 
-    private void impl$capture(final Integer index, final ItemStack newStack, final ItemStack oldStack) {
+    private void impl$capture(final int index, final ItemStack newStack, final ItemStack oldStack) {
         final PhaseContext<?> phaseContext = PhaseTracker.SERVER.getPhaseContext();
         if (PhaseTracker.SERVER.onSidedThread() &&
                  !(phaseContext.isRestoring() // do not capture when block restoring & initial sync on inventory open
                 || phaseContext instanceof TileEntityTickContext)) { // do not capture for open inventories when ticking BlockEntities
-            final ItemStackSnapshot oldItem = ItemStackUtil.snapshotOf(oldStack);
-            final ItemStackSnapshot newItem = ItemStackUtil.snapshotOf(newStack);
+            final org.spongepowered.api.item.inventory.Slot adapter;
             try {
-                final org.spongepowered.api.item.inventory.Slot adapter = this.inventoryAdapter$getSlot(index).get();
-                final SlotTransaction newTransaction = new SlotTransaction(adapter, oldItem, newItem);
-                phaseContext.getTransactor().logSlotTransaction(phaseContext, newTransaction, (AbstractContainerMenu) (Object) this);
+                adapter = this.inventoryAdapter$getSlot(index).get();
             } catch (final IndexOutOfBoundsException e) {
                 SpongeCommon.logger().error("SlotIndex out of LensBounds! Did the Container change after creation?", e);
+                return;
             }
+            // Snapshots are only taken once the transaction is known to be logged
+            final ItemStackSnapshot oldItem = ItemStackUtil.snapshotOf(oldStack);
+            final ItemStackSnapshot newItem = ItemStackUtil.snapshotOf(newStack);
+            final SlotTransaction newTransaction = new SlotTransaction(adapter, oldItem, newItem);
+            phaseContext.getTransactor().logSlotTransaction(phaseContext, newTransaction, (AbstractContainerMenu) (Object) this);
         }
     }
 
@@ -27,15 +27,37 @@
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedSlotBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 
 @Mixin(Slot.class)
-public class SlotMixin_Inventory {
+public class SlotMixin_Inventory implements TrackedSlotBridge {
+
+    // @formatter:off
+    @Shadow public int index;
+    // @formatter:on
+
+    private @Nullable TrackedContainerBridge inventory$trackingMenu;
+
+    @Override
+    public void bridge$setTrackingMenu(final @Nullable TrackedContainerBridge menu) {
+        this.inventory$trackingMenu = menu;
+    }
+
+    @Inject(method = "setChanged", at = @At("HEAD"))
+    private void inventory$markMenuSlotDirty(final CallbackInfo ci) {
+        if (this.inventory$trackingMenu != null) {
+            this.inventory$trackingMenu.bridge$markSlotDirty(this.index);
+        }
+    }
 
     @Inject(method = "onQuickCraft(Lnet/minecraft/world/item/ItemStack;Lnet/minecraft/world/item/ItemStack;)V", at = @At("HEAD"))
     private void inventory$onQuickCraft(final ItemStack slotStack, final ItemStack stackTaken, final CallbackInfo ci) {
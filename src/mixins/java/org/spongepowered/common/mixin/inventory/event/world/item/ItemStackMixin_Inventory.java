@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.inventory.event.world.item;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.world.item.TrackedItemStackBridge;
+
+@Mixin(ItemStack.class)
+public abstract class ItemStackMixin_Inventory implements TrackedItemStackBridge {
+
+    private int inventory$modifications;
+
+    @Override
+    public int bridge$getModificationCount() {
+        return this.inventory$modifications;
+    }
+
+    @Inject(method = {
+        "setTag",
+        "removeTagKey",
+        "addTagElement",
+        "setDamageValue",
+        "resetHoverName",
+        "enchant",
+        "setRepairCost"
+    }, at = @At("HEAD"))
+    private void inventory$markModified(final CallbackInfo ci) {
+        this.inventory$modifications++;
+    }
+
+    // The returned tag is usually written to right away
+    @Inject(method = {"getOrCreateTag", "getOrCreateTagElement"}, at = @At("HEAD"))
+    private void inventory$markTagHandedOut(final CallbackInfoReturnable<CompoundTag> cir) {
+        this.inventory$modifications++;
+    }
+
+    @Inject(method = "setHoverName", at = @At("HEAD"))
+    private void inventory$markRenamed(final CallbackInfoReturnable<ItemStack> cir) {
+        this.inventory$modifications++;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.movementcheck.network.protocol.game;
+
+import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
+import net.minecraft.world.phys.Vec3;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.accessor.network.protocol.game.ServerboundMovePlayerPacketAccessor;
+import org.spongepowered.common.bridge.network.protocol.game.ServerboundMovePlayerPacketBridge_MovementCheck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Mixin(ServerboundMovePlayerPacket.class)
+public abstract class ServerboundMovePlayerPacketMixin_MovementCheck implements ServerboundMovePlayerPacketBridge_MovementCheck {
+
+    // @formatter:off
+    @Shadow protected double x;
+    @Shadow protected double y;
+    @Shadow protected double z;
+    @Shadow protected float yRot;
+    @Shadow protected float xRot;
+    @Shadow protected boolean onGround;
+    @Shadow protected boolean hasPos;
+    @Shadow protected boolean hasRot;
+    // @formatter:on
+
+    // Guarded by this packet, written from the network thread and read once from the main thread
+    private boolean movementCheck$handled;
+    private int movementCheck$absorbed;
+    private @Nullable List<Vec3> movementCheck$waypoints;
+
+    @Override
+    public synchronized boolean movementCheck$absorb(final ServerboundMovePlayerPacket next) {
+        // Landing and leaving the ground are handled per packet, fall damage is dealt when landing
+        if (this.movementCheck$handled || next.isOnGround() != this.onGround) {
+            return false;
+        }
+        final ServerboundMovePlayerPacketAccessor nextAccessor = (ServerboundMovePlayerPacketAccessor) next;
+        if (this.hasPos && nextAccessor.accessor$hasPos()) {
+            // The player may have walked around a corner, keep where it went for the collision check
+            if (this.movementCheck$waypoints == null) {
+                this.movementCheck$waypoints = new ArrayList<>();
+            }
+            this.movementCheck$waypoints.add(new Vec3(this.x, this.y, this.z));
+        }
+        // Keep the latest position and rotation, whichever packet last carried them
+        this.x = next.getX(this.x);
+        this.y = next.getY(this.y);
+        this.z = next.getZ(this.z);
+        this.yRot = next.getYRot(this.yRot);
+        this.xRot = next.getXRot(this.xRot);
+        this.hasPos |= nextAccessor.accessor$hasPos();
+        this.hasRot |= nextAccessor.accessor$hasRot();
+        this.movementCheck$absorbed++;
+        return true;
+    }
+
+    @Override
+    public synchronized int movementCheck$markHandled() {
+        this.movementCheck$handled = true;
+        return this.movementCheck$absorbed;
+    }
+
+    @Override
+    public synchronized List<Vec3> movementCheck$waypoints() {
+        return this.movementCheck$waypoints == null ? Collections.emptyList() : this.movementCheck$waypoints;
+    }
+
+}
@@ -24,21 +24,98 @@
  */
 package org.spongepowered.common.mixin.movementcheck.server.network;
 
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.accessor.network.protocol.game.ServerboundMovePlayerPacketAccessor;
+import org.spongepowered.common.bridge.network.protocol.game.ServerboundMovePlayerPacketBridge_MovementCheck;
+import org.spongepowered.common.bridge.server.network.ServerGamePacketListenerImplBridge_MovementCheck;
 import org.spongepowered.common.config.SpongeGameConfigs;
 
+import java.util.List;
+
 @Mixin(ServerGamePacketListenerImpl.class)
-public abstract class ServerGamePacketListenerImplMixin_MovementCheck {
+public abstract class ServerGamePacketListenerImplMixin_MovementCheck implements ServerGamePacketListenerImplBridge_MovementCheck {
 
     @Shadow public ServerPlayer player;
+    @Shadow @Final private MinecraftServer server;
+    @Shadow private int receivedMovePacketCount;
+
+    // The last scheduled movement packet later ones may be merged into, only used from the network thread
+    private @Nullable ServerboundMovePlayerPacket movementCheck$openMove;
+    // Published by the main thread, as the world config may not be read from the network thread
+    private volatile boolean movementCheck$collapseMovePackets;
+
+    @Override
+    public boolean movementCheck$collapse(final Packet<?> packet) {
+        if (!(packet instanceof ServerboundMovePlayerPacket)) {
+            // Packets handled after this one must see the movement sent before it
+            this.movementCheck$openMove = null;
+            return false;
+        }
+        final ServerboundMovePlayerPacket move = (ServerboundMovePlayerPacket) packet;
+        final ServerboundMovePlayerPacket openMove = this.movementCheck$openMove;
+        if (openMove != null && ((ServerboundMovePlayerPacketBridge_MovementCheck) openMove).movementCheck$absorb(move)) {
+            return true;
+        }
+        this.movementCheck$openMove = this.movementCheck$collapseMovePackets ? move : null;
+        return false;
+    }
+
+    @Inject(method = "handleMovePlayer", at = @At("HEAD"))
+    private void movementCheck$beforeHandleMovePlayer(final ServerboundMovePlayerPacket packet, final CallbackInfo ci) {
+        if (this.server.isSameThread()) {
+            final ServerboundMovePlayerPacketBridge_MovementCheck bridge = (ServerboundMovePlayerPacketBridge_MovementCheck) packet;
+            int absorbed = bridge.movementCheck$markHandled();
+            final List<Vec3> waypoints = bridge.movementCheck$waypoints();
+            if (!waypoints.isEmpty() && !this.movementCheck$canMoveStraightTo(packet)) {
+                // Vanilla moves the player straight to the final position, which fails the
+                // 'moved wrongly' check when the merged packets went around a corner
+                for (final Vec3 waypoint : waypoints) {
+                    ((ServerGamePacketListenerImpl) (Object) this).handleMovePlayer(this.movementCheck$createMove(waypoint, packet.isOnGround()));
+                }
+                // Handling them already counted these packets
+                absorbed -= waypoints.size();
+            }
+            // The 'moved too quickly' check allows more movement for each packet received since the last tick
+            this.receivedMovePacketCount += absorbed;
+            this.movementCheck$collapseMovePackets = SpongeGameConfigs.getForWorld(this.player.level).get().movementChecks.player.collapseMovePackets;
+        }
+    }
+
+    private boolean movementCheck$canMoveStraightTo(final ServerboundMovePlayerPacket packet) {
+        final double dx = packet.getX(this.player.getX()) - this.player.getX();
+        final double dy = packet.getY(this.player.getY()) - this.player.getY();
+        final double dz = packet.getZ(this.player.getZ()) - this.player.getZ();
+        final AABB sweep = this.player.getBoundingBox().expandTowards(dx, dy, dz).deflate(1.0E-5F);
+        return this.player.level.noCollision(this.player, sweep);
+    }
+
+    private ServerboundMovePlayerPacket movementCheck$createMove(final Vec3 position, final boolean onGround) {
+        final ServerboundMovePlayerPacket move = new ServerboundMovePlayerPacket.Pos();
+        final ServerboundMovePlayerPacketAccessor accessor = (ServerboundMovePlayerPacketAccessor) move;
+        accessor.accessor$x(position.x);
+        accessor.accessor$y(position.y);
+        accessor.accessor$z(position.z);
+        accessor.accessor$onGround(onGround);
+        accessor.accessor$hasPos(true);
+        return move;
+    }
 
     @Redirect(method = "handleMovePlayer",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ServerPlayer;isChangingDimension()Z", ordinal = 0))
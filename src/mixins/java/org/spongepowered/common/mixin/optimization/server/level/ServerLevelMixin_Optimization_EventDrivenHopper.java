@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.server.level;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.optimization.EventDrivenHopperBridge;
+import org.spongepowered.common.bridge.optimization.HopperWakeIndexBridge;
+import org.spongepowered.common.world.level.block.entity.HopperWakeIndex;
+
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin_Optimization_EventDrivenHopper implements HopperWakeIndexBridge {
+
+    private final HopperWakeIndex hopper$wakeIndex = new HopperWakeIndex();
+
+    @Override
+    public HopperWakeIndex hopperBridge$getWakeIndex() {
+        return this.hopper$wakeIndex;
+    }
+
+    // Unloaded block entities are not removed, drop their watches so the index does not hold on to them
+    @Inject(method = "unload", at = @At("HEAD"))
+    private void hopper$wakeUnloadedHoppers(final LevelChunk chunk, final CallbackInfo ci) {
+        if (this.hopper$wakeIndex.isEmpty()) {
+            return;
+        }
+        for (final BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof EventDrivenHopperBridge) {
+                ((EventDrivenHopperBridge) blockEntity).hopperBridge$wake();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.block.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.optimization.EventDrivenHopperBridge;
+import org.spongepowered.common.bridge.optimization.HopperWakeIndexBridge;
+
+@Mixin(BlockEntity.class)
+public abstract class BlockEntityMixin_Optimization_EventDrivenHopper {
+
+    // @formatter:off
+    @Shadow protected @Nullable Level level;
+    @Shadow protected BlockPos worldPosition;
+
+    @Shadow public abstract BlockState shadow$getBlockState();
+    // @formatter:on
+
+    @Inject(method = "setChanged", at = @At("HEAD"))
+    private void hopper$wakeWatchingHoppers(final CallbackInfo ci) {
+        this.hopper$wakeWatchingHoppers();
+    }
+
+    protected final void hopper$wakeWatchingHoppers() {
+        if (this.level instanceof HopperWakeIndexBridge) {
+            ((HopperWakeIndexBridge) this.level).hopperBridge$getWakeIndex().wake(this.worldPosition);
+        }
+    }
+
+    @Inject(method = "setRemoved", at = @At("HEAD"))
+    private void hopper$unwatchOnRemoval(final CallbackInfo ci) {
+        if (this instanceof EventDrivenHopperBridge) {
+            ((EventDrivenHopperBridge) this).hopperBridge$wake();
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.block.entity;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.CompoundContainer;
+import net.minecraft.world.Container;
+import net.minecraft.world.WorldlyContainerHolder;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.HopperBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.accessor.world.CompoundContainerAccessor;
+import org.spongepowered.common.bridge.optimization.EventDrivenHopperBridge;
+import org.spongepowered.common.bridge.optimization.HopperWakeIndexBridge;
+import org.spongepowered.common.world.level.block.entity.HopperWakeIndex;
+
+@Mixin(HopperBlockEntity.class)
+public abstract class HopperBlockEntityMixin_Optimization_EventDrivenHopper extends BlockEntityMixin_Optimization_EventDrivenHopper
+    implements EventDrivenHopperBridge {
+
+    // @formatter:off
+    @Shadow private int cooldownTime;
+    @Shadow private long tickedGameTime;
+    // @formatter:on
+
+    // The positions this hopper is registered under while it is asleep, null while awake
+    private long @Nullable [] hopper$watched;
+
+    @Override
+    public void hopperBridge$wake() {
+        final long[] watched = this.hopper$watched;
+        if (watched == null) {
+            return;
+        }
+        this.hopper$watched = null;
+        final HopperWakeIndex index = ((HopperWakeIndexBridge) this.level).hopperBridge$getWakeIndex();
+        for (final long pos : watched) {
+            index.unwatch(pos, this);
+        }
+    }
+
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true)
+    private void hopper$skipTickWhileAsleep(final CallbackInfo ci) {
+        if (this.hopper$watched != null) {
+            // Kept current so hoppers feeding this one compute the same cooldowns as vanilla
+            this.tickedGameTime = this.level.getGameTime();
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void hopper$sleepIfIdle(final CallbackInfo ci) {
+        // A cooldown of zero or less after ticking means items were due to move but none did
+        if (this.cooldownTime <= 0 && this.hopper$watched == null && this.level instanceof HopperWakeIndexBridge) {
+            this.hopper$sleep();
+        }
+    }
+
+    @Inject(method = "setItem", at = @At("HEAD"))
+    private void hopper$wakeOnSetItem(final int index, final ItemStack stack, final CallbackInfo ci) {
+        this.hopperBridge$wake();
+    }
+
+    @Inject(method = "removeItem", at = @At("HEAD"))
+    private void hopper$wakeOnRemoveItem(final int index, final int count, final CallbackInfoReturnable<ItemStack> cir) {
+        this.hopperBridge$wake();
+    }
+
+    private void hopper$sleep() {
+        final BlockPos pos = this.worldPosition;
+        final LongArrayList watched = new LongArrayList(4);
+        // Own changes and item entities moving into the hopper itself
+        watched.add(pos.asLong());
+        if (!this.hopper$watchContainerAt(pos.above(), watched)
+            || !this.hopper$watchContainerAt(pos.relative(this.shadow$getBlockState().getValue(HopperBlock.FACING)), watched)) {
+            return;
+        }
+        final HopperWakeIndex index = ((HopperWakeIndexBridge) this.level).hopperBridge$getWakeIndex();
+        this.hopper$watched = watched.toLongArray();
+        for (final long watchedPos : this.hopper$watched) {
+            index.watch(watchedPos, this);
+        }
+    }
+
+    /**
+     * Adds the positions whose changes could let this hopper move items
+     * again, or returns false if the container found there can change
+     * without any notification reaching the hopper.
+     */
+    private boolean hopper$watchContainerAt(final BlockPos pos, final LongArrayList watched) {
+        // Item entities and container minecarts moving in, and containers placed here
+        HopperBlockEntityMixin_Optimization_EventDrivenHopper.hopper$watch(pos, watched);
+        final Container container = HopperBlockEntity.getContainerAt(this.level, pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D);
+        if (container == null || container instanceof BlockEntity) {
+            return true;
+        }
+        if (container instanceof CompoundContainer) {
+            final Container first = ((CompoundContainerAccessor) container).accessor$container1();
+            final Container second = ((CompoundContainerAccessor) container).accessor$container2();
+            if (first instanceof BlockEntity && second instanceof BlockEntity) {
+                HopperBlockEntityMixin_Optimization_EventDrivenHopper.hopper$watch(((BlockEntity) first).getBlockPos(), watched);
+                HopperBlockEntityMixin_Optimization_EventDrivenHopper.hopper$watch(((BlockEntity) second).getBlockPos(), watched);
+                return true;
+            }
+            return false;
+        }
+        // Containers provided by the block state change with it, which notifies the hopper as a neighbor.
+        // Anything else, such as minecarts, is polled as in vanilla.
+        return this.level.getBlockState(pos).getBlock() instanceof WorldlyContainerHolder;
+    }
+
+    private static void hopper$watch(final BlockPos pos, final LongArrayList watched) {
+        final long packed = pos.asLong();
+        if (!watched.contains(packed)) {
+            watched.add(packed);
+        }
+    }
+
+}
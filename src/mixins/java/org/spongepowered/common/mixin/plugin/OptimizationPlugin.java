@@ -56,6 +56,22 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
             .put("org.spongepowered.common.mixin.optimization.general.DataFixersMixin_Optimization_LazyDFU", optimizationCategory -> optimizationCategory.enableLazyDFU)
             .put("org.spongepowered.common.mixin.optimization.entity.EntityMixin_Optimization_Collision", optimizationCategory -> optimizationCategory.useActiveChunksForCollisions)
             .put("org.spongepowered.common.mixin.optimization.world.entity.TamableAnimalMixin_Optimization_Owner", optimizationCategory -> optimizationCategory.cacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.server.level.ServerLevelMixin_Optimization_EventDrivenHopper",
+                    optimizationCategory -> optimizationCategory.eventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.entity.EntityMixin_Optimization_EventDrivenHopper",
+                    optimizationCategory -> optimizationCategory.eventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.HopperBlockMixin_Optimization_EventDrivenHopper",
+                    optimizationCategory -> optimizationCategory.eventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.entity.BlockEntityMixin_Optimization_EventDrivenHopper",
+                    optimizationCategory -> optimizationCategory.eventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.entity.HopperBlockEntityMixin_Optimization_EventDrivenHopper",
+                    optimizationCategory -> optimizationCategory.eventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.entity.RandomizableContainerBlockEntityMixin_Optimization_EventDrivenHopper",
+                    optimizationCategory -> optimizationCategory.eventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.LevelMixin_Optimization_BlockEntityTickBudget",
+                    optimizationCategory -> optimizationCategory.blockEntityTickBudget)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.entity.BlockEntityMixin_Optimization_BlockEntityTickBudget",
+                    optimizationCategory -> optimizationCategory.blockEntityTickBudget)
 // TODO investigate what is still relevant and add them back
 //            .put("org.spongepowered.common.mixin.optimization.SpongeImplHooksMixin_Item_Pre_Merge",
 //                    optimizationCategory -> optimizationCategory.dropsPreMerge)
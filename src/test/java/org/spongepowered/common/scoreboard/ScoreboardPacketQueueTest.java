@@ -0,0 +1,180 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import net.minecraft.network.protocol.Packet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.scoreboard.ScoreboardPacketQueue.Update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ScoreboardPacketQueueTest {
+
+    private final Map<Packet<?>, Update> updates = new IdentityHashMap<>();
+    private final List<Packet<?>> sent = new ArrayList<>();
+    private ScoreboardPacketQueue queue;
+
+    @BeforeEach
+    void setup() {
+        this.updates.clear();
+        this.sent.clear();
+        this.queue = new ScoreboardPacketQueue(this.sent::add, () -> 2, this.updates::get);
+    }
+
+    private Packet<?> packet(final int type, final String name, final String owner, final int value) {
+        final Packet<?> packet = Mockito.mock(Packet.class);
+        this.updates.put(packet, new Update(type, name, owner, value));
+        return packet;
+    }
+
+    private Packet<?> score(final String objective, final String owner, final int score) {
+        return this.packet(Update.SCORE_CHANGE, objective, owner, score);
+    }
+
+    private Packet<?> displaySlot(final int slot, final String objective) {
+        return this.packet(Update.DISPLAY_SLOT, objective, null, slot);
+    }
+
+    private void enqueue(final Packet<?>... packets) {
+        for (final Packet<?> packet : packets) {
+            this.queue.enqueue(packet);
+        }
+    }
+
+    private void assertFlushes(final Packet<?>... expected) {
+        this.sent.clear();
+        this.queue.flush();
+        Assertions.assertEquals(Arrays.asList(expected), this.sent);
+    }
+
+    @Test
+    void testLatestScoreSupersedesPending() {
+        final Packet<?> first = this.score("sidebar", "alice", 1);
+        final Packet<?> other = this.score("sidebar", "bob", 1);
+        final Packet<?> second = this.score("sidebar", "alice", 2);
+        this.enqueue(first, other, second);
+        this.assertFlushes(other, second);
+    }
+
+    @Test
+    void testUnchangedScoreIsNotResent() {
+        this.enqueue(this.score("sidebar", "alice", 1));
+        this.queue.flush();
+        this.enqueue(this.score("sidebar", "alice", 1));
+        this.assertFlushes();
+        final Packet<?> changed = this.score("sidebar", "alice", 2);
+        this.enqueue(changed);
+        this.assertFlushes(changed);
+    }
+
+    @Test
+    void testRemovedScoreIsResent() {
+        this.enqueue(this.score("sidebar", "alice", 1));
+        this.queue.flush();
+        final Packet<?> remove = this.packet(Update.SCORE_REMOVE, "", "alice", 0);
+        this.enqueue(remove);
+        this.assertFlushes(remove);
+        final Packet<?> again = this.score("sidebar", "alice", 1);
+        this.enqueue(again);
+        this.assertFlushes(again);
+    }
+
+    @Test
+    void testStructuralPacketsKeepOrder() {
+        final Packet<?> add = this.packet(Update.OBJECTIVE_ADD, "sidebar", null, 0);
+        final Packet<?> join = this.packet(Update.OTHER_TYPE, "team", null, 0);
+        final Packet<?> join2 = this.packet(Update.OTHER_TYPE, "team", null, 0);
+        final Packet<?> remove = this.packet(Update.OBJECTIVE_REMOVE, "sidebar", null, 0);
+        this.enqueue(add, join, join2, remove);
+        this.assertFlushes(add, join, join2, remove);
+    }
+
+    @Test
+    void testPropertyChangesSupersedePending() {
+        final Packet<?> objective = this.packet(Update.OBJECTIVE_CHANGE, "sidebar", null, 0);
+        final Packet<?> team = this.packet(Update.TEAM_CHANGE, "sidebar", null, 0);
+        final Packet<?> objective2 = this.packet(Update.OBJECTIVE_CHANGE, "sidebar", null, 0);
+        this.enqueue(objective, team, objective2);
+        this.assertFlushes(team, objective2);
+    }
+
+    @Test
+    void testObjectiveRecreationResendsScores() {
+        this.enqueue(this.score("sidebar", "alice", 1));
+        this.queue.flush();
+        final Packet<?> remove = this.packet(Update.OBJECTIVE_REMOVE, "sidebar", null, 0);
+        final Packet<?> add = this.packet(Update.OBJECTIVE_ADD, "sidebar", null, 0);
+        final Packet<?> score = this.score("sidebar", "alice", 1);
+        this.enqueue(remove, add, score);
+        this.assertFlushes(remove, add, score);
+    }
+
+    @Test
+    void testDisplaySlots() {
+        final Packet<?> show = this.displaySlot(1, "sidebar");
+        this.enqueue(this.displaySlot(1, "other"), show);
+        this.assertFlushes(show);
+        this.enqueue(this.displaySlot(1, "sidebar"));
+        this.assertFlushes();
+        // Removing the objective clears the slot on the client
+        final Packet<?> remove = this.packet(Update.OBJECTIVE_REMOVE, "sidebar", null, 0);
+        final Packet<?> showAgain = this.displaySlot(1, "sidebar");
+        this.enqueue(remove);
+        this.queue.flush();
+        this.enqueue(showAgain);
+        this.assertFlushes(showAgain);
+    }
+
+    @Test
+    void testInvalidateResendsEverything() {
+        this.enqueue(this.score("sidebar", "alice", 1), this.displaySlot(1, "sidebar"));
+        this.queue.flush();
+        this.queue.invalidate();
+        final Packet<?> score = this.score("sidebar", "alice", 1);
+        final Packet<?> show = this.displaySlot(1, "sidebar");
+        this.enqueue(score, show);
+        this.assertFlushes(score, show);
+    }
+
+    @Test
+    void testPacketsSavedCountsEveryViewer() {
+        final long before = ScoreboardPacketQueue.packetsSaved();
+        final Packet<?> latest = this.score("sidebar", "alice", 3);
+        this.enqueue(this.score("sidebar", "alice", 1), this.score("sidebar", "alice", 2), latest);
+        this.assertFlushes(latest);
+        // Two superseded packets, not sent to either of the two viewers
+        Assertions.assertEquals(before + 4, ScoreboardPacketQueue.packetsSaved());
+        this.enqueue(this.score("sidebar", "alice", 3));
+        this.assertFlushes();
+        Assertions.assertEquals(before + 6, ScoreboardPacketQueue.packetsSaved());
+    }
+}
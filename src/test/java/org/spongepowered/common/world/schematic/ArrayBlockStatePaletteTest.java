@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+
+@SuppressWarnings("unchecked")
+final class ArrayBlockStatePaletteTest {
+
+    private final Map<BlockState, Integer> globalIds = new IdentityHashMap<>();
+    private final RegistryHolder holder = Mockito.mock(RegistryHolder.class);
+    private BlockState stone;
+    private BlockState dirt;
+    private BlockState glass;
+
+    @BeforeEach
+    void setup() {
+        this.globalIds.clear();
+        this.stone = this.state(1);
+        this.dirt = this.state(10);
+        this.glass = this.state(20_000);
+    }
+
+    private BlockState state(final int globalId) {
+        final BlockState state = Mockito.mock(BlockState.class);
+        this.globalIds.put(state, globalId);
+        return state;
+    }
+
+    private ArrayBlockStatePalette palette() {
+        return new ArrayBlockStatePalette(Mockito.mock(PaletteType.class), Mockito.mock(Registry.class), 4,
+            state -> this.globalIds.getOrDefault(state, -1));
+    }
+
+    @Test
+    void testOrAssignReusesIds() {
+        final ArrayBlockStatePalette palette = this.palette();
+        Assertions.assertEquals(0, palette.orAssign(this.stone));
+        Assertions.assertEquals(1, palette.orAssign(this.dirt));
+        Assertions.assertEquals(2, palette.orAssign(this.glass));
+        Assertions.assertEquals(0, palette.orAssign(this.stone));
+        Assertions.assertEquals(2, palette.highestId());
+        Assertions.assertEquals(OptionalInt.of(2), palette.get(this.glass));
+        Assertions.assertSame(this.dirt, palette.state(1));
+    }
+
+    @Test
+    void testUnregisteredStateIsRejected() {
+        final ArrayBlockStatePalette palette = this.palette();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> palette.orAssign(Mockito.mock(BlockState.class)));
+    }
+
+    @Test
+    void testDuplicateIdsResolveToLowestId() {
+        final ArrayBlockStatePalette palette = this.palette();
+        palette.assign(this.stone, 5);
+        palette.assign(this.stone, 2);
+        Assertions.assertEquals(OptionalInt.of(2), palette.get(this.stone));
+        Assertions.assertSame(this.stone, palette.state(5));
+    }
+
+    @Test
+    void testRemoveClearsEveryDuplicateId() {
+        final ArrayBlockStatePalette palette = this.palette();
+        palette.assign(this.stone, 5);
+        palette.assign(this.stone, 2);
+        palette.assign(this.dirt, 0);
+        Assertions.assertTrue(palette.remove(this.stone));
+        Assertions.assertNull(palette.state(2));
+        Assertions.assertNull(palette.state(5));
+        Assertions.assertFalse(palette.get(this.stone).isPresent());
+        Assertions.assertEquals(0, palette.highestId());
+        Assertions.assertEquals(1, palette.orAssign(this.glass));
+        Assertions.assertFalse(palette.remove(this.stone));
+    }
+
+    @Test
+    void testReplacingLowestIdKeepsOtherDuplicate() {
+        final ArrayBlockStatePalette palette = this.palette();
+        palette.assign(this.stone, 1);
+        palette.assign(this.stone, 3);
+        palette.assign(this.dirt, 1);
+        Assertions.assertEquals(OptionalInt.of(3), palette.get(this.stone));
+        Assertions.assertEquals(3, palette.orAssign(this.stone));
+        Assertions.assertEquals(OptionalInt.of(1), palette.get(this.dirt));
+    }
+
+    @Test
+    void testImmutableKeepsDuplicateIds() {
+        final ArrayBlockStatePalette palette = this.palette();
+        palette.assign(this.stone, 0);
+        palette.assign(this.dirt, 1);
+        palette.assign(this.stone, 2);
+        final Palette.Immutable<BlockState, BlockType> immutable = palette.asImmutable();
+        Assertions.assertEquals(2, immutable.highestId());
+        Assertions.assertSame(this.stone, immutable.get(0, this.holder).orElse(null));
+        Assertions.assertSame(this.dirt, immutable.get(1, this.holder).orElse(null));
+        Assertions.assertSame(this.stone, immutable.get(2, this.holder).orElse(null));
+        Assertions.assertEquals(OptionalInt.of(0), immutable.get(this.stone));
+
+        // The immutable palette is detached from later changes
+        palette.remove(this.stone);
+        Assertions.assertSame(this.stone, immutable.get(2, this.holder).orElse(null));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        final ArrayBlockStatePalette palette = this.palette();
+        palette.orAssign(this.stone);
+        final ArrayBlockStatePalette copy = palette.copy();
+        copy.orAssign(this.dirt);
+        Assertions.assertFalse(palette.get(this.dirt).isPresent());
+        Assertions.assertEquals(OptionalInt.of(1), copy.get(this.dirt));
+        Assertions.assertEquals(copy, copy.asImmutable().asMutable(this.holder));
+    }
+}